@@ -0,0 +1,75 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoardBenchmarks {
+
+    @Param({"EASY", "SEVENTEEN_CLUES", "SIXTEEN"})
+    private String setName;
+
+    private PuzzleSet set;
+
+    private String text;
+    private Board board;
+    private Board.Update update;
+
+    @Setup
+    public void setUp() {
+        set = PuzzleSet.valueOf(setName);
+        text = set.getPuzzles().get(0);
+        board = set.boards()[0];
+        update = board.nextUpdates().findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public Board construct() {
+        return new Board(set.getGeometry());
+    }
+
+    @Benchmark
+    public Board parse() {
+        return BoardParser.parse(text, set.getGeometry());
+    }
+
+    @Benchmark
+    public Board apply() {
+        return board.apply(update);
+    }
+
+    @Benchmark
+    public List<Board.Update> nextUpdates() {
+        return board.nextUpdates().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public boolean isSolved() {
+        return board.isSolved();
+    }
+
+    @Benchmark
+    public String render() {
+        return board.toString();
+    }
+
+}
@@ -0,0 +1,51 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.List;
+import java.util.Objects;
+
+enum PuzzleSet {
+    EASY(Geometry.of(9, 9), List.of(
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300",
+            ".17.4.9...4..297.1.2..17.34...7.854...........543.1...13.97..2.8.943..1...2.8.39.",
+            ".6..78.3.8.35.4..99.4.6..7..3....7.1..8.1.6..7.9....2..9..3.4.73..8.79.2.8.19..5.",
+            "5684.....9.3.1.5...217....8.5..67.93....3....38.14..6.8....461...7.8.3.9.....5487")),
+    HARD(Geometry.of(9, 9), List.of(
+            Puzzles.HARD,
+            "400000805030000000000700000020000060000080400000010000000603070500200000104000000",
+            "000000012000000003002300400001800005060070800000009000008500000900040500470006000")),
+    SEVENTEEN_CLUES(Geometry.of(9, 9), List.of(
+            "000000010400000000020000000000050407008000300001090000300400200050100000000806000",
+            "000000010400000000020000000000050604008000300001090000300400200050100000000807000",
+            "000000012000035000000600070700000300000400800100000000000120000080000040050000600",
+            "000000012003600000000007000410020000000500300700000600280000040000300500000000000",
+            "000000012008030000000000040120500000000004700060000000507000300000620000000100000")),
+    SIXTEEN(Geometry.of(16, 16), List.of(
+            "0.6..8.25...C.D.F......0E.....2A...7.5B.10.C6....D......37.2..50E8...0.........5...ACF.....3..0..90..A5.62BE...F..B..2.3A9..4.8..2.3..6E4.5..B..6...538C.B7..D9..7..2.....E63...4.........D...C2C5..E.0F......4....07.39.A6.2...A6.....5B......C.3.8...47.C..0.1",
+            ".5.0D.F..47...9..7...2....B.1....4C.1....D.02..89.......6.28CB400.D4......E.A.....56..8C20DA...EC.A7E......6...5......D73...4......F...D7B......1...B......F6D.27...F81549..03.....8.3......B5.961923D.8.......BA..E9.4....5.63....D.5....3...0..3...F2..A.9E.D.",
+            "3A..8...E5..0B......A.D...7..23......6BE...35.D.E.1.7...8D4..F..C7....8.B.E..1F.1B.8....52.F47A...4....B0..7...C.9.......AD8..E..0..D8C.......2.8...5..FD....3...5F92.67....A.B0.6C..B.3.1....85..8..075...2.A.1.C.E6...F43......35..4...9.D......04..ED...6..C2"));
+
+    private final Geometry geometry;
+    private final List<String> puzzles;
+
+    PuzzleSet(Geometry geometry, List<String> puzzles) {
+        this.geometry = Objects.requireNonNull(geometry);
+        this.puzzles = Objects.requireNonNull(puzzles);
+    }
+
+    Board[] boards() {
+        return puzzles.stream()
+                .map(it -> BoardParser.parse(it, geometry))
+                .toArray(Board[]::new);
+    }
+
+    List<String> getPuzzles() {
+        return puzzles;
+    }
+
+    Geometry getGeometry() {
+        return geometry;
+    }
+
+}
@@ -0,0 +1,67 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SolverBenchmarks {
+
+    @Param({"EASY", "HARD", "SEVENTEEN_CLUES", "SIXTEEN"})
+    private String setName;
+
+    @Param({"backtracking", "parallel-backtracking", "dancing-links", "bit-parallel"})
+    private String solverName;
+
+    private PuzzleSet set;
+    private Solver solver;
+    private Board[] puzzles;
+
+    @Setup
+    public void setUp() {
+        set = PuzzleSet.valueOf(setName);
+        solver = createSolver(solverName);
+        puzzles = set.boards();
+    }
+
+    // one invocation solves the whole set, so sample times are per set rather than per puzzle
+    @Benchmark
+    public void solve(Blackhole blackhole) {
+        for (final var puzzle : puzzles) {
+            blackhole.consume(solver.solve(puzzle));
+        }
+    }
+
+    private static Solver createSolver(String name) {
+        switch (name) {
+            case "backtracking":
+                return new BacktrackingSolver(false);
+            case "parallel-backtracking":
+                return new BacktrackingSolver();
+            case "dancing-links":
+                return new DancingLinksSolver();
+            case "bit-parallel":
+                return new BitParallelSolver();
+            default:
+                throw new IllegalArgumentException("Unknown solver: " + name);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package app.base;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+public class AllocationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        final var setPath = measure(AllocationBenchmark::restrictSet);
+        final var maskPath = measure(AllocationBenchmark::restrictMask);
+        System.out.printf("""
+                        Candidate restriction (%d iterations)
+                        Set.of(1..9) path: %.1f bytes/op
+                        Bitmask path:      %.1f bytes/op
+                        """,
+                ITERATIONS, setPath, maskPath);
+    }
+
+    private static double measure(IntUnaryOperator operation) {
+        var sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.applyAsInt(i);
+        }
+        final var before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.applyAsInt(i);
+        }
+        final var allocated = allocatedBytes() - before;
+        if (sink == 42) {
+            System.out.println();
+        }
+        return (double) allocated / ITERATIONS;
+    }
+
+    private static int restrictSet(int iteration) {
+        final var value = iteration % 9 + 1;
+        return Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9)
+                .stream()
+                .filter(n -> n != value)
+                .collect(Collectors.toUnmodifiableSet())
+                .size();
+    }
+
+    private static int restrictMask(int iteration) {
+        final var value = iteration % 9 + 1;
+        return Candidates.count(Candidates.remove(Candidates.all(9), value));
+    }
+
+    private static long allocatedBytes() {
+        final var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
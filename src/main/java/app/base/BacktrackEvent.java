@@ -0,0 +1,27 @@
+package app.base;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.base.Backtrack")
+@Label("Deep Backtrack")
+@Category("Sudoku")
+@Description("A guess that was undone after its subtree visited at least Backtracking.DEEP_BACKTRACK_NODES nodes")
+@Enabled(false)
+final class BacktrackEvent extends Event {
+    @Label("Depth")
+    int depth;
+
+    @Label("Cell")
+    int index;
+
+    @Label("Value")
+    int value;
+
+    @Label("Nodes")
+    long nodes;
+}
@@ -0,0 +1,169 @@
+package app.base;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class Backtracking {
+    static final long DEEP_BACKTRACK_NODES = 1_000;
+
+    private final BranchingStrategy strategy;
+    private final Propagator propagator;
+    private final SearchStatistics statistics;
+    private final CancellationToken token;
+    private final TranspositionTable table;
+    private int[][] values = new int[0][];
+
+    Backtracking() {
+        this(Branching.DEFAULT);
+    }
+
+    Backtracking(BranchingStrategy strategy) {
+        this(strategy, Technique.DEFAULT);
+    }
+
+    Backtracking(BranchingStrategy strategy, Set<Technique> techniques) {
+        this(strategy, techniques, new CancellationToken());
+    }
+
+    Backtracking(BranchingStrategy strategy, Set<Technique> techniques, CancellationToken token) {
+        this(strategy, techniques, token, TranspositionTable.NONE);
+    }
+
+    Backtracking(BranchingStrategy strategy, Set<Technique> techniques, CancellationToken token, TranspositionTable table) {
+        this.strategy = Objects.requireNonNull(strategy);
+        this.statistics = new SearchStatistics();
+        this.propagator = new Propagator(techniques, statistics);
+        this.token = Objects.requireNonNull(token);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    boolean solve(SearchBoard board) {
+        ensureCapacity(board);
+        return solve(board, 0);
+    }
+
+    void count(SearchBoard board, AtomicLong total, long limit) {
+        ensureCapacity(board);
+        count(board, 0, total, limit);
+    }
+
+    SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    private boolean solve(SearchBoard board, int depth) {
+        if (token.isCancelled()) {
+            return false;
+        }
+        statistics.visitNode(depth);
+        final var hash = board.getHash();
+        if (isDead(hash)) {
+            return false;
+        }
+        if (!propagator.propagate(board)) {
+            statistics.failBranch();
+            return false;
+        }
+        final var index = strategy.selectCell(board);
+        if (index < 0) {
+            return true;
+        }
+        final var mark = board.mark();
+        final var order = values[depth];
+        final var count = strategy.orderValues(board, index, order);
+        for (int i = 0; i < count; i++) {
+            statistics.branch();
+            final var event = new BacktrackEvent();
+            event.begin();
+            final var nodes = statistics.getNodes();
+            if (board.assign(index, order[i])) {
+                if (solve(board, depth + 1)) {
+                    return true;
+                }
+            } else {
+                statistics.failBranch();
+            }
+            board.undo(mark);
+            statistics.backtrack();
+            backtracked(event, depth, index, order[i], statistics.getNodes() - nodes);
+        }
+        markDead(hash);
+        return false;
+    }
+
+    // returns the solutions found below this node, which may be partial once the search is cancelled
+    private long count(SearchBoard board, int depth, AtomicLong total, long limit) {
+        if (token.isCancelled()) {
+            return 0;
+        }
+        statistics.visitNode(depth);
+        final var hash = board.getHash();
+        if (isDead(hash)) {
+            return 0;
+        }
+        if (!propagator.propagate(board)) {
+            statistics.failBranch();
+            return 0;
+        }
+        final var index = strategy.selectCell(board);
+        if (index < 0) {
+            if (total.incrementAndGet() >= limit) {
+                token.cancel();
+            }
+            return 1;
+        }
+        final var mark = board.mark();
+        final var order = values[depth];
+        final var count = strategy.orderValues(board, index, order);
+        var solutions = 0L;
+        for (int i = 0; i < count; i++) {
+            statistics.branch();
+            if (board.assign(index, order[i])) {
+                solutions += count(board, depth + 1, total, limit);
+            } else {
+                statistics.failBranch();
+            }
+            board.undo(mark);
+            statistics.backtrack();
+        }
+        if (solutions == 0) {
+            markDead(hash);
+        }
+        return solutions;
+    }
+
+    private boolean isDead(long hash) {
+        if (!table.isDead(hash)) {
+            return false;
+        }
+        statistics.hitTransposition();
+        statistics.failBranch();
+        return true;
+    }
+
+    // only subtrees that were searched to the end prove the values have no solution, failed propagations are
+    // cheaper to repeat than to store
+    private void markDead(long hash) {
+        if (!token.isCancelled()) {
+            table.addDead(hash);
+        }
+    }
+
+    private static void backtracked(BacktrackEvent event, int depth, int index, int value, long nodes) {
+        if (nodes >= DEEP_BACKTRACK_NODES && event.shouldCommit()) {
+            event.depth = depth;
+            event.index = index;
+            event.value = value;
+            event.nodes = nodes;
+            event.commit();
+        }
+    }
+
+    private void ensureCapacity(SearchBoard board) {
+        if (values.length < board.getGeometry().getCells() + 1) {
+            values = new int[board.getGeometry().getCells() + 1][board.getGeometry().getDigits()];
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Objects;
+
+final class BacktrackingSolver implements Solver {
+    private final boolean parallel;
+    private final TranspositionTable table;
+
+    BacktrackingSolver() {
+        this(true);
+    }
+
+    BacktrackingSolver(boolean parallel) {
+        this(parallel, TranspositionTable.NONE);
+    }
+
+    // one search tree never reaches the same values twice, a table only pays off when solves share it
+    BacktrackingSolver(boolean parallel, TranspositionTable table) {
+        this.parallel = parallel;
+        this.table = Objects.requireNonNull(table);
+    }
+
+    @Override
+    public Board solve(Board board) {
+        return solve(board, new SearchStatistics());
+    }
+
+    @Override
+    public Board solve(Board board, SearchStatistics statistics) {
+        final var searchBoard = Objects.requireNonNull(board).toSearchBoard();
+        if (!parallel) {
+            final var backtracking = new Backtracking(Branching.DEFAULT, Technique.DEFAULT, new CancellationToken(), table);
+            final var solved = backtracking.solve(searchBoard);
+            statistics.add(backtracking.getStatistics());
+            return solved ? searchBoard.toBoard() : board;
+        }
+        final var root = new SearchStatistics();
+        root.visitNode(0);
+        if (!new Propagator(Technique.DEFAULT, root).propagate(searchBoard)) {
+            root.failBranch();
+            statistics.add(root);
+            return board;
+        }
+        statistics.add(root);
+        if (searchBoard.isSolved()) {
+            return searchBoard.toBoard();
+        }
+        final var propagated = searchBoard.toBoard();
+        final var token = new CancellationToken();
+        return propagated
+                .nextUpdates()
+                .parallel()
+                .map(propagated::apply)
+                .map(it -> solve(it, token, table, statistics))
+                .filter(Objects::nonNull)
+                .findAny()
+                .map(SearchBoard::toBoard)
+                .orElse(board);
+    }
+
+    // every root branch is a parallel task with its own statistics, merged into the shared ones when it ends
+    private static SearchBoard solve(Board branch, CancellationToken token, TranspositionTable table,
+                                     SearchStatistics statistics) {
+        final var local = new SearchStatistics();
+        local.branch();
+        local.fork();
+        if (branch.isContradicted()) {
+            local.failBranch();
+            local.backtrack();
+            statistics.add(local);
+            return null;
+        }
+        final var board = branch.toSearchBoard();
+        final var backtracking = new Backtracking(Branching.DEFAULT, Technique.DEFAULT, token, table);
+        final var solved = backtracking.solve(board);
+        local.add(backtracking.getStatistics(), 1);
+        if (!solved) {
+            local.backtrack();
+        }
+        statistics.add(local);
+        if (!solved) {
+            return null;
+        }
+        // first solution wins, the remaining branches stop at their next node
+        token.cancel();
+        return board;
+    }
+
+}
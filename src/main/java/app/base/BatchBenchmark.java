@@ -0,0 +1,40 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchBenchmark {
+
+    private static final int PUZZLES = 20_000;
+
+    public static void main(String[] args) {
+        final var queueDepth = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        final var samples = Puzzles.samples();
+        final var boards = new ArrayList<Board>(PUZZLES);
+        for (int i = 0; i < PUZZLES; i++) {
+            boards.add(samples.get(i % samples.size()));
+        }
+        final var solver = new BacktrackingSolver(false);
+        run(solver, 1, queueDepth, boards);
+        var baseline = 0.0;
+        for (int workers = 1; workers <= Runtime.getRuntime().availableProcessors(); workers *= 2) {
+            final var throughput = run(solver, workers, queueDepth, boards);
+            if (workers == 1) {
+                baseline = throughput;
+            }
+            System.out.printf("workers: %2d, queue depth: %d, %.0f puzzles/s, speedup: %.2fx%n",
+                    workers, queueDepth, throughput, throughput / baseline);
+        }
+    }
+
+    private static double run(Solver solver, int workers, int queueDepth, List<Board> boards) {
+        try (final var batch = new BatchSolver(solver, workers, queueDepth)) {
+            final var startTime = System.nanoTime();
+            batch.solve(boards);
+            return boards.size() / ((System.nanoTime() - startTime) / Math.pow(10, 9));
+        }
+    }
+
+}
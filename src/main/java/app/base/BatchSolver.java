@@ -0,0 +1,95 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+final class BatchSolver implements AutoCloseable {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final Solver solver;
+    private final int workers;
+    private final int queueDepth;
+    private final ThreadPoolExecutor executor;
+
+    BatchSolver(Solver solver) {
+        this(solver, Runtime.getRuntime().availableProcessors(), 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    BatchSolver(Solver solver, int workers, int queueDepth) {
+        if (workers < 1 || queueDepth < 1) {
+            throw new IllegalArgumentException("Invalid worker count or queue depth: %d, %d".formatted(workers, queueDepth));
+        }
+        this.solver = Objects.requireNonNull(solver);
+        this.workers = workers;
+        this.queueDepth = queueDepth;
+        // the reorder window below bounds the queue; the extra capacity covers workers that are still wrapping up
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers + queueDepth), runnable -> {
+            final var thread = new Thread(runnable, "sudoku-worker-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    List<Board> solve(List<Board> boards) {
+        final var solutions = new ArrayList<Board>(boards.size());
+        solve(boards.iterator(), solutions::add);
+        return solutions;
+    }
+
+    void solve(Iterator<Board> boards, Consumer<? super Board> solutions) {
+        // reorder buffer: futures in input order, at most one per running worker plus the queue depth
+        final var pending = new ArrayDeque<Future<Board>>(workers + queueDepth);
+        while (boards.hasNext()) {
+            if (pending.size() == workers + queueDepth) {
+                solutions.accept(await(pending.poll()));
+            }
+            final var board = boards.next();
+            pending.add(executor.submit(() -> Sudoku.solve(board, solver)));
+            while (!pending.isEmpty() && pending.peek().isDone()) {
+                solutions.accept(await(pending.poll()));
+            }
+        }
+        while (!pending.isEmpty()) {
+            solutions.accept(await(pending.poll()));
+        }
+    }
+
+    int getWorkers() {
+        return workers;
+    }
+
+    int getQueueDepth() {
+        return queueDepth;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static Board await(Future<Board> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+}
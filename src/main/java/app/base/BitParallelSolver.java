@@ -0,0 +1,142 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class BitParallelSolver implements Solver {
+
+    @Override
+    public Board solve(Board board) {
+        final var geometry = Objects.requireNonNull(board).getGeometry();
+        final var cells = geometry.getCells();
+        final var size = geometry.getDigits();
+        final var all = Candidates.all(size);
+        // digits placed in every row, then every column, then every square
+        final var used = new long[3 * size];
+        final var values = new int[cells];
+        final var empty = new int[cells];
+        // the search loop reads these for every empty cell at every depth, a divide per lookup adds up
+        final var rowOf = new int[cells];
+        final var columnOf = new int[cells];
+        final var squareOf = new int[cells];
+        var count = 0;
+        for (int index = 0; index < cells; index++) {
+            rowOf[index] = geometry.row(index);
+            columnOf[index] = size + geometry.column(index);
+            squareOf[index] = 2 * size + geometry.square(index);
+            final var value = board.getValue(index);
+            if (value == 0) {
+                empty[count++] = index;
+                continue;
+            }
+            final var bit = Candidates.of(value);
+            if (((used[rowOf[index]] | used[columnOf[index]] | used[squareOf[index]]) & bit) != 0) {
+                return board;
+            }
+            used[rowOf[index]] |= bit;
+            used[columnOf[index]] |= bit;
+            used[squareOf[index]] |= bit;
+            values[index] = value;
+        }
+        // digits that can go to at least one and at least two empty cells of every unit, for hidden singles
+        final var once = new long[used.length];
+        final var twice = new long[used.length];
+        // explicit stack: the bit placed at each depth and the candidates still to try there
+        final var placed = new long[count];
+        final var remaining = new long[count];
+        var depth = 0;
+        var descending = true;
+        while (true) {
+            if (descending) {
+                if (depth == count) {
+                    break;
+                }
+                Arrays.fill(once, Candidates.NONE);
+                Arrays.fill(twice, Candidates.NONE);
+                var selected = depth;
+                var selectedCandidates = Candidates.NONE;
+                var selectedCount = Integer.MAX_VALUE;
+                for (int i = depth; i < count; i++) {
+                    final var index = empty[i];
+                    final var candidates = all & ~(used[rowOf[index]] | used[columnOf[index]] | used[squareOf[index]]);
+                    final var candidatesCount = Candidates.count(candidates);
+                    if (candidatesCount < selectedCount) {
+                        selected = i;
+                        selectedCandidates = candidates;
+                        selectedCount = candidatesCount;
+                        if (candidatesCount <= 1) {
+                            break;
+                        }
+                    }
+                    twice[rowOf[index]] |= once[rowOf[index]] & candidates;
+                    once[rowOf[index]] |= candidates;
+                    twice[columnOf[index]] |= once[columnOf[index]] & candidates;
+                    once[columnOf[index]] |= candidates;
+                    twice[squareOf[index]] |= once[squareOf[index]] & candidates;
+                    once[squareOf[index]] |= candidates;
+                }
+                // without a naked single, a digit with one place left in a unit is forced and one with none fails
+                if (selectedCount > 1) {
+                    for (int unit = 0; unit < used.length; unit++) {
+                        final var missing = all & ~used[unit];
+                        if ((missing & ~once[unit]) != Candidates.NONE) {
+                            selectedCandidates = Candidates.NONE;
+                            break;
+                        }
+                        final var hidden = missing & ~twice[unit];
+                        if (hidden != Candidates.NONE) {
+                            final var bit = hidden & -hidden;
+                            for (int i = depth; i < count; i++) {
+                                final var index = empty[i];
+                                if ((rowOf[index] == unit || columnOf[index] == unit || squareOf[index] == unit)
+                                        && ((used[rowOf[index]] | used[columnOf[index]] | used[squareOf[index]]) & bit) == 0) {
+                                    selected = i;
+                                    break;
+                                }
+                            }
+                            selectedCandidates = bit;
+                            break;
+                        }
+                    }
+                }
+                final var swapped = empty[depth];
+                empty[depth] = empty[selected];
+                empty[selected] = swapped;
+                remaining[depth] = selectedCandidates;
+            }
+            final var index = empty[depth];
+            final var row = rowOf[index];
+            final var column = columnOf[index];
+            final var square = squareOf[index];
+            if (placed[depth] != 0) {
+                used[row] ^= placed[depth];
+                used[column] ^= placed[depth];
+                used[square] ^= placed[depth];
+                placed[depth] = 0;
+            }
+            if (remaining[depth] == 0) {
+                if (depth == 0) {
+                    return board;
+                }
+                depth--;
+                descending = false;
+                continue;
+            }
+            final var bit = remaining[depth] & -remaining[depth];
+            remaining[depth] ^= bit;
+            used[row] |= bit;
+            used[column] |= bit;
+            used[square] |= bit;
+            placed[depth] = bit;
+            depth++;
+            descending = true;
+        }
+        for (int i = 0; i < count; i++) {
+            values[empty[i]] = Candidates.lowest(placed[i]);
+        }
+        return Board.solved(geometry, values);
+    }
+
+}
@@ -0,0 +1,108 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+final class BoardParser {
+    private static final Geometry DEFAULT_GEOMETRY = Geometry.of(9, 9);
+    // boards of up to 9 digits use '1'-'9', larger ones number their digits from '0' onwards
+    private static final String SYMBOLS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private BoardParser() {
+    }
+
+    static Board parse(CharSequence line) {
+        return parse(line, DEFAULT_GEOMETRY);
+    }
+
+    static Board parse(CharSequence line, Geometry geometry) {
+        Objects.requireNonNull(line);
+        if (line.length() < geometry.getCells()) {
+            throw new IllegalArgumentException("Expected %d cells, got %d".formatted(geometry.getCells(), line.length()));
+        }
+        final var values = new int[geometry.getCells()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = parseValue(line.charAt(index), geometry);
+        }
+        return fromValues(geometry, values);
+    }
+
+    static Board parse(ByteBuffer buffer, int offset, Geometry geometry) {
+        if (buffer.limit() - offset < geometry.getCells()) {
+            throw new IllegalArgumentException("Expected %d cells, got %d".formatted(geometry.getCells(), buffer.limit() - offset));
+        }
+        final var values = new int[geometry.getCells()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = parseValue(buffer.get(offset + index), geometry);
+        }
+        return fromValues(geometry, values);
+    }
+
+    static void write(Board board, ByteBuffer buffer) {
+        final var geometry = board.getGeometry();
+        for (int index = 0; index < geometry.getCells(); index++) {
+            buffer.put((byte) symbolOf(board.getValue(index), geometry));
+        }
+        buffer.put((byte) '\n');
+    }
+
+    static int parseValue(int symbol, Geometry geometry) {
+        final var small = geometry.getDigits() <= 9;
+        if (symbol == '.' || (small && symbol == '0')) {
+            return 0;
+        }
+        final var value = SYMBOLS.indexOf(Character.toUpperCase(symbol)) + (small ? 0 : 1);
+        if (value < 1 || value > geometry.getDigits()) {
+            throw new IllegalArgumentException("Invalid cell symbol: '%c'".formatted((char) symbol));
+        }
+        return value;
+    }
+
+    static char symbolOf(int value, Geometry geometry) {
+        if (value == 0) {
+            return '.';
+        }
+        if (geometry.getDigits() > SYMBOLS.length()) {
+            throw new IllegalArgumentException("No symbols for %d digits".formatted(geometry.getDigits()));
+        }
+        return SYMBOLS.charAt(geometry.getDigits() <= 9 ? value : value - 1);
+    }
+
+    static Board fromValues(Geometry geometry, int[] values) {
+        final var units = geometry.getUnits();
+        final var occupied = new long[units.length];
+        var contradicted = false;
+        for (int unit = 0; unit < units.length; unit++) {
+            for (final var index : units[unit]) {
+                final var value = values[index];
+                if (value != 0) {
+                    contradicted |= Candidates.contains(occupied[unit], value);
+                    occupied[unit] |= Candidates.of(value);
+                }
+            }
+        }
+        final var all = Candidates.all(geometry.getDigits());
+        final var candidates = new long[values.length];
+        for (int index = 0; index < values.length; index++) {
+            var taken = Candidates.NONE;
+            for (final var unit : geometry.getUnitsOf(index)) {
+                taken |= occupied[unit];
+            }
+            candidates[index] = all & ~taken;
+            contradicted |= values[index] == 0 && candidates[index] == Candidates.NONE;
+        }
+        for (int unit = 0; unit < units.length && !contradicted; unit++) {
+            var placeable = occupied[unit];
+            for (final var index : units[unit]) {
+                if (values[index] == 0) {
+                    placeable |= candidates[index];
+                }
+            }
+            contradicted = placeable != all;
+        }
+        return new Board(geometry, values, candidates, contradicted);
+    }
+
+}
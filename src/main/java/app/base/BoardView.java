@@ -0,0 +1,49 @@
+package app.base;
+
+interface BoardView {
+
+    Geometry getGeometry();
+
+    int getValue(int index);
+
+    long getCandidates(int index);
+
+    default boolean isConsistent(int index, int value) {
+        if (getValue(index) == 0 && getCandidates(index) == Candidates.NONE) {
+            return false;
+        }
+        for (final var unit : getGeometry().getUnitsOf(index)) {
+            if (!hasPlace(getGeometry().getUnits()[unit], value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether each of the digits still has a place in every unit of the cell, called once the cell is filled
+     * and no longer offers them.
+     */
+    default boolean hasPlaces(int index, long digits) {
+        for (var it = digits; it != Candidates.NONE; it = Candidates.withoutLowest(it)) {
+            final var digit = Candidates.lowest(it);
+            for (final var unit : getGeometry().getUnitsOf(index)) {
+                if (!hasPlace(getGeometry().getUnits()[unit], digit)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean hasPlace(int[] unit, int value) {
+        for (final var it : unit) {
+            final var current = getValue(it);
+            if (current == value || current == 0 && Candidates.contains(getCandidates(it), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
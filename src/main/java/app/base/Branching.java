@@ -0,0 +1,101 @@
+package app.base;
+
+enum Branching implements BranchingStrategy {
+    FIRST_EMPTY {
+        @Override
+        public int selectCell(BoardView board) {
+            for (int index = 0; index < board.getGeometry().getCells(); index++) {
+                if (board.getValue(index) == 0) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    },
+    MINIMUM_REMAINING_VALUES {
+        @Override
+        public int selectCell(BoardView board) {
+            return selectMinimumRemainingValues(board, false);
+        }
+    },
+    DEGREE {
+        @Override
+        public int selectCell(BoardView board) {
+            return selectMinimumRemainingValues(board, true);
+        }
+    },
+    LEAST_CONSTRAINING_VALUE {
+        @Override
+        public int selectCell(BoardView board) {
+            return selectMinimumRemainingValues(board, true);
+        }
+
+        @Override
+        public int orderValues(BoardView board, int index, int[] values) {
+            final var count = super.orderValues(board, index, values);
+            // insertion sort by the number of peer candidates each value would eliminate
+            for (int i = 1; i < count; i++) {
+                final var value = values[i];
+                final var constraint = countConstrained(board, index, value);
+                var j = i - 1;
+                while (j >= 0 && countConstrained(board, index, values[j]) > constraint) {
+                    values[j + 1] = values[j];
+                    j--;
+                }
+                values[j + 1] = value;
+            }
+            return count;
+        }
+    };
+
+    static final BranchingStrategy DEFAULT = MINIMUM_REMAINING_VALUES;
+
+    private static int selectMinimumRemainingValues(BoardView board, boolean breakTiesByDegree) {
+        var selected = -1;
+        var selectedCount = Integer.MAX_VALUE;
+        var selectedDegree = -1;
+        for (int index = 0; index < board.getGeometry().getCells(); index++) {
+            if (board.getValue(index) != 0) {
+                continue;
+            }
+            final var count = Candidates.count(board.getCandidates(index));
+            if (count > selectedCount) {
+                continue;
+            }
+            if (count == selectedCount && !breakTiesByDegree) {
+                continue;
+            }
+            final var degree = breakTiesByDegree ? countEmptyPeers(board, index) : 0;
+            if (count < selectedCount || degree > selectedDegree) {
+                selected = index;
+                selectedCount = count;
+                selectedDegree = degree;
+            }
+            if (selectedCount <= 1 && !breakTiesByDegree) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private static int countEmptyPeers(BoardView board, int index) {
+        var count = 0;
+        for (final var peer : board.getGeometry().getPeers(index)) {
+            if (board.getValue(peer) == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countConstrained(BoardView board, int index, int value) {
+        var count = 0;
+        for (final var peer : board.getGeometry().getPeers(index)) {
+            if (board.getValue(peer) == 0 && Candidates.contains(board.getCandidates(peer), value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
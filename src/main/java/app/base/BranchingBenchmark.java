@@ -0,0 +1,24 @@
+package app.base;
+
+public class BranchingBenchmark {
+
+    public static void main(String[] args) {
+        final var puzzles = Puzzles.samples();
+        for (final var strategy : Branching.values()) {
+            final var statistics = new SearchStatistics();
+            var solved = 0;
+            final var startTime = System.nanoTime();
+            for (final var puzzle : puzzles) {
+                final var backtracking = new Backtracking(strategy);
+                if (backtracking.solve(puzzle.toSearchBoard())) {
+                    solved++;
+                }
+                statistics.add(backtracking.getStatistics());
+            }
+            System.out.printf("%-24s solved: %d/%d, %s, time: %.3fs%n",
+                    strategy, solved, puzzles.size(), statistics,
+                    (System.nanoTime() - startTime) / Math.pow(10, 9));
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package app.base;
+
+interface BranchingStrategy {
+
+    int selectCell(BoardView board);
+
+    default int orderValues(BoardView board, int index, int[] values) {
+        var count = 0;
+        for (var it = board.getCandidates(index); it != Candidates.NONE; it = Candidates.withoutLowest(it)) {
+            values[count++] = Candidates.lowest(it);
+        }
+        return count;
+    }
+
+}
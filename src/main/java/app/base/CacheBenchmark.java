@@ -0,0 +1,51 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+public class CacheBenchmark {
+
+    private static final int PUZZLES = 20_000;
+    private static final int DISTINCT_PUZZLES = 500;
+    private static final int WARMUP_ITERATIONS = 3;
+
+    // repeated lines, variants that only the canonical form recognises, and puzzles that never repeat
+    public static void main(String[] args) {
+        final var random = new SplittableRandom(42);
+        final var samples = Puzzles.samples();
+        final var repeated = new ArrayList<Board>(PUZZLES);
+        final var variants = new ArrayList<Board>(PUZZLES);
+        for (int i = 0; i < PUZZLES; i++) {
+            repeated.add(samples.get(i % samples.size()));
+            variants.add(Variants.random(samples.get(i % samples.size()), random));
+        }
+        final var distinct = new Generator().generate(42, DISTINCT_PUZZLES).collect(Collectors.toList());
+        run("repeated", repeated);
+        run("variants", variants);
+        run("distinct", distinct);
+    }
+
+    // every pass gets a new cache, so warmup passes do not fill the measured one
+    private static void run(String name, List<Board> puzzles) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            time(new BacktrackingSolver(false), puzzles);
+            time(new CachingSolver(new BacktrackingSolver(false)), puzzles);
+        }
+        final var plain = time(new BacktrackingSolver(false), puzzles);
+        final var cache = new CachingSolver(new BacktrackingSolver(false));
+        final var cached = time(cache, puzzles);
+        System.out.printf("%-9s plain: %.3fms, cached: %.3fms per puzzle, speedup: %.2fx, hit rate: %.1f%% (%d exact)%n",
+                name, plain, cached, plain / cached, 100 * cache.getHitRate(), cache.getExactHits());
+    }
+
+    private static double time(Solver solver, List<Board> puzzles) {
+        final var startTime = System.nanoTime();
+        puzzles.forEach(solver::solve);
+        return (System.nanoTime() - startTime) / Math.pow(10, 6) / puzzles.size();
+    }
+
+}
@@ -0,0 +1,183 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Answers repeated puzzles from a bounded LRU cache of solutions keyed by their exact givens, and relabelled,
+ * transposed and band-swapped variants from one keyed by their {@link CanonicalForm}. Canonical forms cost more than
+ * many solves, so they are only computed when the exact givens miss.
+ * Each of the two maps holds up to the capacity on its own, so the cache keeps at most twice as many solutions,
+ * and evictions are counted per map.
+ */
+final class CachingSolver implements Solver {
+    static final int DEFAULT_CAPACITY = 10_000;
+    private static final int[] NO_SOLUTION = new int[0];
+
+    private final Solver solver;
+    private final int capacity;
+    private final Map<Givens, int[]> exact;
+    private final Map<CanonicalForm, int[]> canonical;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder exactHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder exactEvictions = new LongAdder();
+    private final LongAdder canonicalEvictions = new LongAdder();
+
+    CachingSolver(Solver solver) {
+        this(solver, DEFAULT_CAPACITY);
+    }
+
+    CachingSolver(Solver solver, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity has to be positive: %d".formatted(capacity));
+        }
+        this.solver = Objects.requireNonNull(solver);
+        this.capacity = capacity;
+        this.exact = lruMap(exactEvictions, "cache.evictions.exact");
+        this.canonical = lruMap(canonicalEvictions, "cache.evictions.canonical");
+    }
+
+    @Override
+    public Board solve(Board board) {
+        return solve(board, new SearchStatistics());
+    }
+
+    @Override
+    public Board solve(Board board, SearchStatistics statistics) {
+        final var givens = new Givens(Objects.requireNonNull(board));
+        final var exactSolution = get(exact, givens);
+        if (exactSolution != null) {
+            hit();
+            exactHits.increment();
+            Metrics.GLOBAL.counter("cache.exact_hits").increment();
+            return exactSolution == NO_SOLUTION ? board : Board.solved(board.getGeometry(), exactSolution);
+        }
+        final var form = CanonicalForm.of(board);
+        final var cached = get(canonical, form);
+        if (cached != null) {
+            hit();
+            final var solution = cached == NO_SOLUTION ? board : form.toOriginal(cached);
+            put(exact, givens, cached == NO_SOLUTION ? NO_SOLUTION : valuesOf(solution));
+            return solution;
+        }
+        misses.increment();
+        Metrics.GLOBAL.counter("cache.misses").increment();
+        final var solution = solver.solve(board, statistics);
+        put(canonical, form, solution.isSolved() ? form.toCanonical(solution) : NO_SOLUTION);
+        put(exact, givens, solution.isSolved() ? valuesOf(solution) : NO_SOLUTION);
+        return solution;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the hits answered without computing a canonical form.
+     */
+    long getExactHits() {
+        return exactHits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getExactEvictions() {
+        return exactEvictions.sum();
+    }
+
+    long getCanonicalEvictions() {
+        return canonicalEvictions.sum();
+    }
+
+    double getHitRate() {
+        final var hits = getHits();
+        final var lookups = hits + getMisses();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    synchronized int exactSize() {
+        return exact.size();
+    }
+
+    /**
+     * Returns the number of puzzles cached up to symmetry.
+     */
+    synchronized int canonicalSize() {
+        return canonical.size();
+    }
+
+    private void hit() {
+        hits.increment();
+        Metrics.GLOBAL.counter("cache.hits").increment();
+    }
+
+    // the maps are reordered on every access, so reads take the lock too
+    private synchronized <K> int[] get(Map<K, int[]> map, K key) {
+        return map.get(key);
+    }
+
+    private synchronized <K> void put(Map<K, int[]> map, K key, int[] solution) {
+        map.put(key, solution);
+    }
+
+    private <K> Map<K, int[]> lruMap(LongAdder evictions, String metric) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, int[]> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                evictions.increment();
+                Metrics.GLOBAL.counter(metric).increment();
+                return true;
+            }
+        };
+    }
+
+    private static int[] valuesOf(Board board) {
+        final var values = new int[board.getGeometry().getCells()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = board.getValue(index);
+        }
+        return values;
+    }
+
+    // boards with the same values have the same solutions, whatever their candidates
+    private static final class Givens {
+        private final Geometry geometry;
+        private final int[] values;
+        private final long hash;
+
+        private Givens(Board board) {
+            this.geometry = board.getGeometry();
+            this.values = valuesOf(board);
+            this.hash = board.getHash();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final var that = (Givens) o;
+            return hash == that.hash && geometry == that.geometry && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+    }
+
+}
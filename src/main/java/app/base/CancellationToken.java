@@ -0,0 +1,25 @@
+package app.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class CancellationToken {
+    private static final long NOT_CANCELLED = Long.MIN_VALUE;
+
+    private final AtomicLong cancelledAt = new AtomicLong(NOT_CANCELLED);
+    private volatile boolean cancelled;
+
+    void cancel() {
+        if (cancelledAt.compareAndSet(NOT_CANCELLED, System.nanoTime())) {
+            cancelled = true;
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    long getCancelledAt() {
+        return cancelledAt.get();
+    }
+
+}
@@ -0,0 +1,51 @@
+package app.base;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+final class Candidates {
+
+    static final long NONE = 0L;
+    static final int MAX_DIGITS = Long.SIZE;
+
+    private Candidates() {
+    }
+
+    static long all(int digits) {
+        return digits == MAX_DIGITS ? -1L : (1L << digits) - 1;
+    }
+
+    static long of(int value) {
+        return 1L << (value - 1);
+    }
+
+    static boolean contains(long candidates, int value) {
+        return (candidates & of(value)) != NONE;
+    }
+
+    static long remove(long candidates, int value) {
+        return candidates & ~of(value);
+    }
+
+    static int count(long candidates) {
+        return Long.bitCount(candidates);
+    }
+
+    static boolean isSingle(long candidates) {
+        return candidates != NONE && (candidates & (candidates - 1)) == NONE;
+    }
+
+    static int lowest(long candidates) {
+        return Long.numberOfTrailingZeros(candidates) + 1;
+    }
+
+    static long withoutLowest(long candidates) {
+        return candidates & (candidates - 1);
+    }
+
+    static IntStream stream(long candidates) {
+        return LongStream.iterate(candidates, it -> it != NONE, Candidates::withoutLowest)
+                .mapToInt(Candidates::lowest);
+    }
+
+}
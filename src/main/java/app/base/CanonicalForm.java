@@ -0,0 +1,454 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A board reduced under the validity-preserving symmetries: transposition (for square boxes), permutations of
+ * bands and stacks, of rows within a band and columns within a stack, and relabelling of digits.
+ * Bands, rows, stacks and columns are first sorted by keys derived from their given counts, which no symmetry
+ * changes, and the canonical givens are the lexicographically smallest over the transforms that keep them sorted,
+ * with digits relabelled in order of first appearance. Equivalent puzzles share one form and solutions can be mapped
+ * between them.
+ */
+final class CanonicalForm {
+    // boards whose column keys tie in more orders than this keep ties in their own order, their forms still
+    // transpose, permute rows and relabel digits but only match variants that keep the tied columns in place
+    private static final int MAX_COLUMN_ORDERS = 6 * 6 * 6 * 6;
+    // degenerate boards with many identical rows tie everywhere, past this many search steps the best form so far is kept
+    private static final long SEARCH_BUDGET = 2_000;
+
+    private final Geometry geometry;
+    private final int[] values;
+    private final int[] cells;
+    private final int[] labels;
+    private final int[] digits;
+    private final int hash;
+
+    private CanonicalForm(Geometry geometry, int[] values, int[] cells, int[] labels) {
+        this.geometry = geometry;
+        this.values = values;
+        this.cells = cells;
+        this.labels = completeLabels(labels, geometry.getDigits());
+        this.digits = new int[geometry.getDigits() + 1];
+        for (int digit = 1; digit <= geometry.getDigits(); digit++) {
+            digits[this.labels[digit]] = digit;
+        }
+        this.hash = 31 * geometry.hashCode() + Arrays.hashCode(values);
+    }
+
+    static CanonicalForm of(Board board) {
+        return new Search(board).run();
+    }
+
+    /**
+     * Maps a solution of the original board onto the canonical board.
+     */
+    int[] toCanonical(Board solution) {
+        final var canonical = new int[cells.length];
+        for (int index = 0; index < cells.length; index++) {
+            canonical[index] = labels[solution.getValue(cells[index])];
+        }
+        return canonical;
+    }
+
+    /**
+     * Maps a solution of the canonical board back onto the original board.
+     */
+    Board toOriginal(int[] canonical) {
+        final var values = new int[cells.length];
+        for (int index = 0; index < cells.length; index++) {
+            values[cells[index]] = digits[canonical[index]];
+        }
+        return Board.solved(geometry, values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (CanonicalForm) o;
+        return hash == that.hash && geometry == that.geometry && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    // digits absent from the givens take the remaining labels in order, so the relabelling is a bijection
+    private static int[] completeLabels(int[] labels, int digitCount) {
+        final var complete = labels.clone();
+        var next = 0;
+        for (int digit = 1; digit <= digitCount; digit++) {
+            next = Math.max(next, complete[digit]);
+        }
+        for (int digit = 1; digit <= digitCount; digit++) {
+            if (complete[digit] == 0) {
+                complete[digit] = ++next;
+            }
+        }
+        return complete;
+    }
+
+    // the items sorted by key, once for every order of the items whose keys are equal
+    private static List<int[]> orderings(int[] items, long[] keys) {
+        final var orderings = new ArrayList<int[]>();
+        addOrderings(orderings, sortedByKey(items, keys), keys, 0);
+        return orderings;
+    }
+
+    private static void addOrderings(List<int[]> orderings, int[] order, long[] keys, int start) {
+        if (start == order.length) {
+            orderings.add(order.clone());
+            return;
+        }
+        var end = start + 1;
+        while (end < order.length && keys[order[end]] == keys[order[start]]) {
+            end++;
+        }
+        for (int i = start; i < end; i++) {
+            swap(order, start, i);
+            addOrderings(orderings, order, keys, start + 1);
+            swap(order, start, i);
+        }
+    }
+
+    private static double countOrderings(int[] sorted, long[] keys) {
+        var count = 1.0;
+        var ties = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            ties = keys[sorted[i]] == keys[sorted[i - 1]] ? ties + 1 : 1;
+            count *= ties;
+        }
+        return count;
+    }
+
+    private static int[] sortedByKey(int[] items, long[] keys) {
+        return Arrays.stream(items)
+                .boxed()
+                .sorted(Comparator.comparingLong(it -> keys[it]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] identity(int size) {
+        final var identity = new int[size];
+        Arrays.setAll(identity, it -> it);
+        return identity;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        final var swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+
+    // branch and bound over the transforms that sort by the given counts: for every transposition and column order,
+    // rows are picked position by position keeping only those that give the smallest relabelled row, and pruned once
+    // they exceed the best form
+    private static final class Search {
+        private final Geometry geometry;
+        private final int size;
+        private final int height;
+        private final int width;
+        private final int[][] grids;
+        private final int[][] rows;
+        private final int[] rowOrder;
+        private final int[][] labels;
+        private final int[] next;
+        private final int[][] candidates;
+        private final int[][] candidateRows;
+        private final int[] stamps;
+        private final int[] fresh;
+        private final long[] rowKeys;
+        private final long[] columnKeys;
+        private final long[] bandKeys;
+        private final long[] stackKeys;
+        private final long[] bandMinimumRowKeys;
+        private int stamp;
+        private int[] grid;
+        private boolean transposed;
+        private int[] columnOrder;
+        private int[] best;
+        private int[] bestCells;
+        private int[] bestLabels;
+        private long budget = SEARCH_BUDGET;
+
+        private Search(Board board) {
+            this.geometry = board.getGeometry();
+            this.size = geometry.getRows();
+            this.height = geometry.getSquareHeight();
+            this.width = geometry.getSquareWidth();
+            this.grids = new int[2][size * size];
+            for (int row = 0; row < size; row++) {
+                for (int column = 0; column < size; column++) {
+                    grids[0][row * size + column] = board.getValue(geometry.index(row, column));
+                    grids[1][row * size + column] = board.getValue(geometry.index(column, row));
+                }
+            }
+            this.rows = new int[size][size];
+            this.rowOrder = new int[size];
+            this.labels = new int[size + 1][geometry.getDigits() + 1];
+            this.next = new int[size + 1];
+            this.candidates = new int[size][size * size];
+            this.candidateRows = new int[size][size];
+            this.stamps = new int[geometry.getDigits() + 1];
+            this.fresh = new int[geometry.getDigits() + 1];
+            this.rowKeys = new long[size];
+            this.columnKeys = new long[size];
+            this.bandKeys = new long[size / height];
+            this.stackKeys = new long[size / width];
+            this.bandMinimumRowKeys = new long[size / height];
+        }
+
+        CanonicalForm run() {
+            final var transposes = height == width ? new boolean[]{false, true} : new boolean[]{false};
+            for (final var transpose : transposes) {
+                orient(transpose);
+                for (final var order : columnOrders()) {
+                    columnOrder = order;
+                    search(0, 0L, -1, best == null);
+                }
+            }
+            return new CanonicalForm(geometry, best, bestCells, bestLabels);
+        }
+
+        // a row is keyed by its givens and the givens in their columns, and the other way round for columns,
+        // no symmetry changes these keys so sorting by them leaves only ties to search
+        private void orient(boolean transpose) {
+            transposed = transpose;
+            grid = grids[transpose ? 1 : 0];
+            final var rowCounts = new long[size];
+            final var columnCounts = new long[size];
+            for (int row = 0; row < size; row++) {
+                for (int column = 0; column < size; column++) {
+                    if (grid[row * size + column] != 0) {
+                        rowCounts[row]++;
+                        columnCounts[column]++;
+                    }
+                }
+            }
+            final var base = size * size + 1;
+            for (int line = 0; line < size; line++) {
+                rowKeys[line] = rowCounts[line] * base;
+                columnKeys[line] = columnCounts[line] * base;
+            }
+            for (int row = 0; row < size; row++) {
+                for (int column = 0; column < size; column++) {
+                    if (grid[row * size + column] != 0) {
+                        rowKeys[row] += columnCounts[column];
+                        columnKeys[column] += rowCounts[row];
+                    }
+                }
+            }
+            Arrays.fill(bandKeys, 0);
+            Arrays.fill(stackKeys, 0);
+            Arrays.fill(bandMinimumRowKeys, Long.MAX_VALUE);
+            for (int line = 0; line < size; line++) {
+                bandKeys[line / height] += rowKeys[line];
+                stackKeys[line / width] += columnKeys[line];
+                bandMinimumRowKeys[line / height] = Math.min(bandMinimumRowKeys[line / height], rowKeys[line]);
+            }
+        }
+
+        private List<int[]> columnOrders() {
+            final var stacks = sortedByKey(identity(size / width), stackKeys);
+            final var columns = new int[stacks.length][];
+            var count = countOrderings(stacks, stackKeys);
+            for (int stack = 0; stack < stacks.length; stack++) {
+                final var stackColumns = new int[width];
+                for (int i = 0; i < width; i++) {
+                    stackColumns[i] = stack * width + i;
+                }
+                columns[stack] = sortedByKey(stackColumns, columnKeys);
+                count *= countOrderings(columns[stack], columnKeys);
+            }
+            if (count > MAX_COLUMN_ORDERS) {
+                final var order = new int[size];
+                for (int slot = 0; slot < stacks.length; slot++) {
+                    System.arraycopy(columns[stacks[slot]], 0, order, slot * width, width);
+                }
+                return List.of(order);
+            }
+            final var stackColumnOrders = new ArrayList<List<int[]>>(stacks.length);
+            for (final var stackColumns : columns) {
+                stackColumnOrders.add(orderings(stackColumns, columnKeys));
+            }
+            final var orders = new ArrayList<int[]>();
+            for (final var stackOrder : orderings(stacks, stackKeys)) {
+                addColumnOrders(stackOrder, stackColumnOrders, 0, new int[size], orders);
+            }
+            return orders;
+        }
+
+        private void addColumnOrders(int[] stackOrder, List<List<int[]>> stackColumnOrders, int slot, int[] order,
+                                     List<int[]> orders) {
+            if (slot == stackOrder.length) {
+                orders.add(order.clone());
+                return;
+            }
+            for (final var columns : stackColumnOrders.get(stackOrder[slot])) {
+                System.arraycopy(columns, 0, order, slot * width, width);
+                addColumnOrders(stackOrder, stackColumnOrders, slot + 1, order, orders);
+            }
+        }
+
+        private boolean search(int position, long usedRows, int band, boolean less) {
+            if (position == size) {
+                if (!less) {
+                    return false;
+                }
+                record();
+                return true;
+            }
+            if (budget-- <= 0 && best != null) {
+                return false;
+            }
+            // a new band starts every height rows, the other positions take the remaining rows of the current band
+            final var bandStart = position % height == 0;
+            final var minimumKey = bandStart ? minimumBandKey(usedRows) : minimumRowKey(usedRows, band);
+            final var bounded = !less && best != null;
+            final var firstRow = bandStart ? 0 : band * height;
+            final var lastRow = bandStart ? size : (band + 1) * height;
+            final var candidates = this.candidates[position];
+            final var candidateRows = this.candidateRows[position];
+            var count = 0;
+            var minimum = -1;
+            for (int row = firstRow; row < lastRow; row++) {
+                if (!isAvailable(usedRows, bandStart, minimumKey, row)) {
+                    continue;
+                }
+                relabel(row, position, candidates, count * size);
+                if (bounded && compare(candidates, count * size, best, position * size) > 0) {
+                    continue;
+                }
+                if (minimum < 0 || compare(candidates, count * size, candidates, minimum * size) < 0) {
+                    minimum = count;
+                }
+                candidateRows[count++] = row;
+            }
+            if (minimum < 0) {
+                return false;
+            }
+            if (bounded) {
+                less = compare(candidates, minimum * size, best, position * size) < 0;
+            }
+            var updated = false;
+            for (int candidate = 0; candidate < count; candidate++) {
+                if (compare(candidates, candidate * size, candidates, minimum * size) != 0) {
+                    continue;
+                }
+                final var row = candidateRows[candidate];
+                place(row, position);
+                if (search(position + 1, usedRows | (1L << row), row / height, less)) {
+                    updated = true;
+                    less = false;
+                }
+            }
+            return updated;
+        }
+
+        // bands and the rows within a band are taken in key order, only equal keys leave a choice
+        private boolean isAvailable(long usedRows, boolean bandStart, long minimumKey, int row) {
+            if (!bandStart) {
+                return (usedRows & (1L << row)) == 0 && rowKeys[row] == minimumKey;
+            }
+            final var band = row / height;
+            return (usedRows & bandMask(band)) == 0 && bandKeys[band] == minimumKey
+                    && rowKeys[row] == bandMinimumRowKeys[band];
+        }
+
+        private long minimumBandKey(long usedRows) {
+            var minimum = Long.MAX_VALUE;
+            for (int band = 0; band < bandKeys.length; band++) {
+                if ((usedRows & bandMask(band)) == 0) {
+                    minimum = Math.min(minimum, bandKeys[band]);
+                }
+            }
+            return minimum;
+        }
+
+        private long minimumRowKey(long usedRows, int band) {
+            var minimum = Long.MAX_VALUE;
+            for (int row = band * height; row < (band + 1) * height; row++) {
+                if ((usedRows & (1L << row)) == 0) {
+                    minimum = Math.min(minimum, rowKeys[row]);
+                }
+            }
+            return minimum;
+        }
+
+        private long bandMask(int band) {
+            return ((1L << height) - 1) << (band * height);
+        }
+
+        // writes the row as it reads under the current transform, labelling digits first seen in it after the others
+        private void relabel(int row, int position, int[] target, int offset) {
+            final var labels = this.labels[position];
+            var next = this.next[position];
+            stamp++;
+            for (int column = 0; column < size; column++) {
+                final var value = grid[row * size + columnOrder[column]];
+                if (value == 0 || labels[value] != 0) {
+                    target[offset + column] = labels[value];
+                    continue;
+                }
+                if (stamps[value] != stamp) {
+                    stamps[value] = stamp;
+                    fresh[value] = ++next;
+                }
+                target[offset + column] = fresh[value];
+            }
+        }
+
+        private void place(int row, int position) {
+            relabel(row, position, rows[position], 0);
+            System.arraycopy(labels[position], 0, labels[position + 1], 0, labels[position].length);
+            var next = this.next[position];
+            for (final var label : rows[position]) {
+                next = Math.max(next, label);
+            }
+            for (int column = 0; column < size; column++) {
+                final var value = grid[row * size + columnOrder[column]];
+                if (value != 0) {
+                    labels[position + 1][value] = rows[position][column];
+                }
+            }
+            this.next[position + 1] = next;
+            rowOrder[position] = row;
+        }
+
+        private int originalIndex(int row, int column) {
+            final var originalColumn = columnOrder[column];
+            return transposed ? geometry.index(originalColumn, row) : geometry.index(row, originalColumn);
+        }
+
+        private int compare(int[] left, int leftOffset, int[] right, int rightOffset) {
+            return Arrays.compare(left, leftOffset, leftOffset + size, right, rightOffset, rightOffset + size);
+        }
+
+        private void record() {
+            if (best == null) {
+                best = new int[size * size];
+                bestCells = new int[size * size];
+            }
+            for (int position = 0; position < size; position++) {
+                System.arraycopy(rows[position], 0, best, position * size, size);
+                for (int column = 0; column < size; column++) {
+                    bestCells[position * size + column] = originalIndex(rowOrder[position], column);
+                }
+            }
+            bestLabels = labels[size].clone();
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package app.base;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.base.Chunk")
+@Label("Batch Chunk")
+@Category("Sudoku")
+@Description("A chunk of a puzzle file solved and written out by PuzzleFileSolver")
+@Enabled(false)
+final class ChunkEvent extends Event {
+    @Label("Offset")
+    @DataAmount
+    long offset;
+
+    @Label("Length")
+    @DataAmount
+    long length;
+
+    @Label("Puzzles")
+    long puzzles;
+
+    @Label("Solved")
+    long solved;
+}
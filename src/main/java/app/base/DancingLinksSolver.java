@@ -0,0 +1,196 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class DancingLinksSolver implements Solver {
+    private static final Map<Geometry, Links> TEMPLATES = new ConcurrentHashMap<>();
+
+    @Override
+    public Board solve(Board board) {
+        final var geometry = Objects.requireNonNull(board).getGeometry();
+        final var links = TEMPLATES.computeIfAbsent(geometry, Links::new).copy();
+        for (int index = 0; index < geometry.getCells(); index++) {
+            final var value = board.getValue(index);
+            if (value != 0 && !links.select(index * geometry.getDigits() + value - 1)) {
+                return board;
+            }
+        }
+        if (!links.search()) {
+            return board;
+        }
+        final var values = new int[geometry.getCells()];
+        for (int index = 0; index < geometry.getCells(); index++) {
+            values[index] = board.getValue(index);
+        }
+        for (int depth = 0; depth < links.depth; depth++) {
+            final var row = links.solution[depth];
+            values[row / geometry.getDigits()] = row % geometry.getDigits() + 1;
+        }
+        return Board.solved(geometry, values);
+    }
+
+    // exact cover matrix: one row per (cell, digit), one column per cell and per (unit, digit)
+    private static final class Links {
+        private static final int ROOT = 0;
+
+        private final int[] left;
+        private final int[] right;
+        private final int[] up;
+        private final int[] down;
+        private final int[] column;
+        private final int[] row;
+        private final int[] size;
+        private final int[] first;
+        private final int[] solution;
+        private int depth;
+
+        private Links(Geometry geometry) {
+            final var digits = geometry.getDigits();
+            final var columns = geometry.getCells() + geometry.getUnits().length * digits;
+            var nodes = columns + 1;
+            for (int index = 0; index < geometry.getCells(); index++) {
+                nodes += digits * (1 + geometry.getUnitsOf(index).length);
+            }
+            this.left = new int[nodes];
+            this.right = new int[nodes];
+            this.up = new int[nodes];
+            this.down = new int[nodes];
+            this.column = new int[nodes];
+            this.row = new int[nodes];
+            this.size = new int[columns + 1];
+            this.first = new int[geometry.getCells() * digits];
+            this.solution = new int[geometry.getCells()];
+            for (int header = 0; header <= columns; header++) {
+                left[header] = header == ROOT ? columns : header - 1;
+                right[header] = header == columns ? ROOT : header + 1;
+                up[header] = header;
+                down[header] = header;
+                column[header] = header;
+            }
+            var node = columns + 1;
+            for (int index = 0; index < geometry.getCells(); index++) {
+                final var units = geometry.getUnitsOf(index);
+                for (int digit = 0; digit < digits; digit++) {
+                    final var id = index * digits + digit;
+                    final var start = node;
+                    first[id] = start;
+                    node = append(node, start, id, 1 + index);
+                    for (final var unit : units) {
+                        node = append(node, start, id, 1 + geometry.getCells() + unit * digits + digit);
+                    }
+                }
+            }
+        }
+
+        private Links(Links links) {
+            this.left = links.left.clone();
+            this.right = links.right.clone();
+            this.up = links.up.clone();
+            this.down = links.down.clone();
+            this.column = links.column;
+            this.row = links.row;
+            this.size = links.size.clone();
+            this.first = links.first;
+            this.solution = new int[links.solution.length];
+        }
+
+        Links copy() {
+            return new Links(this);
+        }
+
+        boolean select(int id) {
+            final var start = first[id];
+            var node = start;
+            do {
+                if (!isActive(column[node])) {
+                    return false;
+                }
+                node = right[node];
+            } while (node != start);
+            do {
+                cover(column[node]);
+                node = right[node];
+            } while (node != start);
+            return true;
+        }
+
+        boolean search() {
+            if (right[ROOT] == ROOT) {
+                return true;
+            }
+            var selected = right[ROOT];
+            for (var header = right[selected]; header != ROOT; header = right[header]) {
+                if (size[header] < size[selected]) {
+                    selected = header;
+                }
+            }
+            if (size[selected] == 0) {
+                return false;
+            }
+            cover(selected);
+            for (var node = down[selected]; node != selected; node = down[node]) {
+                solution[depth++] = row[node];
+                for (var it = right[node]; it != node; it = right[it]) {
+                    cover(column[it]);
+                }
+                if (search()) {
+                    return true;
+                }
+                for (var it = left[node]; it != node; it = left[it]) {
+                    uncover(column[it]);
+                }
+                depth--;
+            }
+            uncover(selected);
+            return false;
+        }
+
+        private int append(int node, int start, int id, int header) {
+            column[node] = header;
+            row[node] = id;
+            up[node] = up[header];
+            down[node] = header;
+            down[up[header]] = node;
+            up[header] = node;
+            size[header]++;
+            left[node] = node == start ? node : node - 1;
+            right[node] = start;
+            right[left[node]] = node;
+            left[start] = node;
+            return node + 1;
+        }
+
+        private boolean isActive(int header) {
+            return right[left[header]] == header;
+        }
+
+        private void cover(int header) {
+            right[left[header]] = right[header];
+            left[right[header]] = left[header];
+            for (var it = down[header]; it != header; it = down[it]) {
+                for (var node = right[it]; node != it; node = right[node]) {
+                    up[down[node]] = up[node];
+                    down[up[node]] = down[node];
+                    size[column[node]]--;
+                }
+            }
+        }
+
+        private void uncover(int header) {
+            for (var it = up[header]; it != header; it = up[it]) {
+                for (var node = left[it]; node != it; node = left[node]) {
+                    size[column[node]]++;
+                    up[down[node]] = node;
+                    down[up[node]] = node;
+                }
+            }
+            right[left[header]] = header;
+            left[right[header]] = header;
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+final class DifficultyRater {
+    // techniques in the order a human solver would reach for them
+    private static final Technique[] ORDER = {
+            Technique.HIDDEN_SINGLES,
+            Technique.NAKED_SINGLES,
+            Technique.LOCKED_CANDIDATES,
+            Technique.NAKED_PAIRS,
+            Technique.HIDDEN_PAIRS,
+            Technique.NAKED_TRIPLES,
+            Technique.HIDDEN_TRIPLES,
+            Technique.X_WING,
+            Technique.SWORDFISH
+    };
+    private static final double GUESS_WEIGHT = 8.0;
+    private static final double VOLUME_WEIGHT = 0.01;
+
+    Rating rate(Board board) {
+        final var searchBoard = Objects.requireNonNull(board).toSearchBoard();
+        final var rating = new Rating();
+        if (board.isContradicted()) {
+            return rating;
+        }
+        var step = 0;
+        while (step < ORDER.length && !searchBoard.isSolved()) {
+            final var technique = ORDER[step];
+            final var changes = technique.apply(searchBoard);
+            if (changes < 0) {
+                return rating;
+            }
+            if (changes > 0) {
+                rating.applications[technique.ordinal()]++;
+                rating.eliminations[technique.ordinal()] += changes;
+                step = 0;
+            } else {
+                step++;
+            }
+        }
+        if (!searchBoard.isSolved()) {
+            final var backtracking = new Backtracking(Branching.DEFAULT, Technique.ALL);
+            if (!backtracking.solve(searchBoard)) {
+                return rating;
+            }
+            rating.guesses = backtracking.getStatistics().getNodes() - 1;
+        }
+        rating.solved = true;
+        return rating;
+    }
+
+    static double getWeight(Technique technique) {
+        switch (technique) {
+            case HIDDEN_SINGLES:
+                return 1.0;
+            case NAKED_SINGLES:
+                return 1.5;
+            case LOCKED_CANDIDATES:
+                return 2.5;
+            case NAKED_PAIRS:
+                return 3.0;
+            case HIDDEN_PAIRS:
+                return 3.4;
+            case NAKED_TRIPLES:
+                return 3.6;
+            case HIDDEN_TRIPLES:
+                return 4.0;
+            case X_WING:
+                return 4.2;
+            case SWORDFISH:
+                return 5.0;
+            default:
+                throw new IllegalArgumentException("Unknown technique: " + technique);
+        }
+    }
+
+    static final class Rating {
+        private final long[] applications = new long[Technique.values().length];
+        private final long[] eliminations = new long[Technique.values().length];
+        private long guesses;
+        private boolean solved;
+
+        long getApplications(Technique technique) {
+            return applications[technique.ordinal()];
+        }
+
+        long getEliminations(Technique technique) {
+            return eliminations[technique.ordinal()];
+        }
+
+        long getGuesses() {
+            return guesses;
+        }
+
+        boolean isGuessingRequired() {
+            return guesses > 0;
+        }
+
+        boolean isSolved() {
+            return solved;
+        }
+
+        // the hardest step dominates, the amount of work done only breaks ties
+        double getScore() {
+            var hardest = 0.0;
+            var volume = 0.0;
+            for (final var technique : Technique.values()) {
+                if (applications[technique.ordinal()] > 0) {
+                    hardest = Math.max(hardest, getWeight(technique));
+                    volume += getWeight(technique) * applications[technique.ordinal()];
+                }
+            }
+            if (isGuessingRequired()) {
+                hardest = GUESS_WEIGHT + Math.log(guesses) / Math.log(2);
+            }
+            return hardest + VOLUME_WEIGHT * volume;
+        }
+
+        @Override
+        public String toString() {
+            final var techniques = new StringJoiner(", ", "[", "]");
+            for (final var technique : Technique.values()) {
+                if (applications[technique.ordinal()] > 0) {
+                    techniques.add("%s x%d".formatted(technique, applications[technique.ordinal()]));
+                }
+            }
+            return "score=%.2f, techniques=%s, guesses=%d, solved=%b".formatted(
+                    getScore(), techniques, getGuesses(), isSolved());
+        }
+    }
+
+}
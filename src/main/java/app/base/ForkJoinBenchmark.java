@@ -0,0 +1,52 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public class ForkJoinBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 100;
+
+    public static void main(String[] args) {
+        final var puzzle = BoardParser.parse(args.length > 0 ? args[0] : Puzzles.HARD);
+        final var pool = new ForkJoinPool();
+        final var solvers = new LinkedHashMap<String, Solver>();
+        solvers.put("parallel stream per level", new StreamSolver());
+        solvers.put("parallel stream at root", new BacktrackingSolver());
+        solvers.put("sequential", new BacktrackingSolver(false));
+        for (final var forkDepth : new int[]{1, 2, 4, 8}) {
+            for (final var forkEmpty : new int[]{0, 40, 50}) {
+                solvers.put("fork/join depth < %d, empty >= %d".formatted(forkDepth, forkEmpty),
+                        new ForkJoinSolver(pool, forkDepth, forkEmpty));
+            }
+        }
+        solvers.forEach((name, solver) -> {
+            System.out.printf("%-36s %.3fms", name, measure(solver, puzzle));
+            if (solver instanceof ForkJoinSolver) {
+                final var forkJoin = (ForkJoinSolver) solver;
+                System.out.printf(", to solution: %.3fms, to idle: %.3fms, forks: %d",
+                        forkJoin.getSolutionNanos() / Math.pow(10, 6) / forkJoin.getSolutions(),
+                        forkJoin.getIdleNanos() / Math.pow(10, 6) / forkJoin.getSolutions(),
+                        forkJoin.getForks() / forkJoin.getSolutions());
+            }
+            System.out.println();
+        });
+    }
+
+    private static double measure(Solver solver, Board puzzle) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            solver.solve(puzzle);
+        }
+        final var startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (!solver.solve(puzzle).isSolved()) {
+                throw new IllegalStateException("Puzzle was not solved");
+            }
+        }
+        return (System.nanoTime() - startTime) / Math.pow(10, 6) / ITERATIONS;
+    }
+
+}
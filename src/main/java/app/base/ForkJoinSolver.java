@@ -0,0 +1,161 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+final class ForkJoinSolver implements Solver {
+    static final int DEFAULT_FORK_DEPTH = 3;
+    static final int DEFAULT_FORK_EMPTY = 30;
+
+    private final ForkJoinPool pool;
+    private final BranchingStrategy strategy;
+    private final int forkDepth;
+    private final int forkEmpty;
+    private final LongAdder forks = new LongAdder();
+    private final LongAdder solutions = new LongAdder();
+    private final LongAdder solutionNanos = new LongAdder();
+    private final LongAdder idleNanos = new LongAdder();
+
+    ForkJoinSolver() {
+        this(new ForkJoinPool(), DEFAULT_FORK_DEPTH, DEFAULT_FORK_EMPTY);
+    }
+
+    ForkJoinSolver(ForkJoinPool pool, int forkDepth, int forkEmpty) {
+        this(pool, Branching.DEFAULT, forkDepth, forkEmpty);
+    }
+
+    ForkJoinSolver(ForkJoinPool pool, BranchingStrategy strategy, int forkDepth, int forkEmpty) {
+        this.pool = Objects.requireNonNull(pool);
+        this.strategy = Objects.requireNonNull(strategy);
+        this.forkDepth = forkDepth;
+        this.forkEmpty = forkEmpty;
+    }
+
+    @Override
+    public Board solve(Board board) {
+        return solve(board, new SearchStatistics());
+    }
+
+    @Override
+    public Board solve(Board board, SearchStatistics statistics) {
+        final var token = new CancellationToken();
+        final var startTime = System.nanoTime();
+        final var solution = pool.invoke(new SearchTask(Objects.requireNonNull(board).toSearchBoard(), 0, token, statistics));
+        final var endTime = System.nanoTime();
+        if (solution == null) {
+            return board;
+        }
+        solutions.increment();
+        solutionNanos.add(token.getCancelledAt() - startTime);
+        idleNanos.add(endTime - token.getCancelledAt());
+        return solution.toBoard();
+    }
+
+    long getForks() {
+        return forks.sum();
+    }
+
+    long getSolutions() {
+        return solutions.sum();
+    }
+
+    // time from the start of a solve until the first solution was found
+    long getSolutionNanos() {
+        return solutionNanos.sum();
+    }
+
+    // time from the first solution until every forked task has finished
+    long getIdleNanos() {
+        return idleNanos.sum();
+    }
+
+    // tasks are never serialized, they hold boards and tokens that are not serializable either
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveTask<SearchBoard> {
+        private final SearchBoard board;
+        private final int depth;
+        private final CancellationToken token;
+        private final SearchStatistics statistics;
+
+        private SearchTask(SearchBoard board, int depth, CancellationToken token, SearchStatistics statistics) {
+            this.board = board;
+            this.depth = depth;
+            this.token = token;
+            this.statistics = statistics;
+        }
+
+        // every task records into its own statistics and merges them into the shared ones when it ends
+        @Override
+        protected SearchBoard compute() {
+            final var local = new SearchStatistics();
+            try {
+                return search(local);
+            } finally {
+                statistics.add(local);
+            }
+        }
+
+        private SearchBoard search(SearchStatistics local) {
+            if (token.isCancelled()) {
+                return null;
+            }
+            // below the cutoff the subtree is searched sequentially in place
+            if (depth >= forkDepth || board.getEmpty() < forkEmpty) {
+                final var backtracking = new Backtracking(strategy, Technique.DEFAULT, token);
+                final var solved = backtracking.solve(board);
+                local.add(backtracking.getStatistics(), depth);
+                return solved ? found(board) : null;
+            }
+            local.visitNode(depth);
+            if (!new Propagator(Technique.DEFAULT, local).propagate(board)) {
+                local.failBranch();
+                return null;
+            }
+            final var index = strategy.selectCell(board);
+            if (index < 0) {
+                return found(board);
+            }
+            final var values = new int[board.getGeometry().getDigits()];
+            final var count = strategy.orderValues(board, index, values);
+            final var tasks = new ArrayList<SearchTask>(count);
+            for (int i = 0; i < count; i++) {
+                local.branch();
+                final var child = board.copy();
+                if (child.assign(index, values[i])) {
+                    tasks.add(new SearchTask(child, depth + 1, token, statistics));
+                } else {
+                    local.failBranch();
+                }
+            }
+            if (tasks.isEmpty()) {
+                return null;
+            }
+            for (int i = tasks.size() - 1; i > 0; i--) {
+                tasks.get(i).fork();
+                forks.increment();
+                local.fork();
+            }
+            final var first = tasks.get(0).compute();
+            var solution = first;
+            for (int i = 1; i < tasks.size(); i++) {
+                final var result = tasks.get(i).join();
+                if (solution == null) {
+                    solution = result;
+                }
+            }
+            return solution;
+        }
+
+        // first solution wins, every other task stops at its next node
+        private SearchBoard found(SearchBoard solution) {
+            token.cancel();
+            return solution;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+final class Generator {
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private final Geometry geometry;
+    private final Symmetry symmetry;
+    private final int targetGivens;
+    // shared by the parallel generators, removing one given at a time revisits states earlier checks proved dead
+    private final TranspositionTable table = new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY);
+
+    Generator() {
+        this(Geometry.of(9, 9), Symmetry.NONE, 0);
+    }
+
+    Generator(Geometry geometry, Symmetry symmetry, int targetGivens) {
+        this.geometry = Objects.requireNonNull(geometry);
+        this.symmetry = Objects.requireNonNull(symmetry);
+        this.targetGivens = targetGivens;
+    }
+
+    // every puzzle gets its own generator seeded from its position, so results do not depend on scheduling
+    Stream<Board> generate(long seed, int count) {
+        return IntStream.range(0, count)
+                .parallel()
+                .mapToObj(it -> generate(new SplittableRandom(seed + it * SEED_INCREMENT)));
+    }
+
+    Board generate(SplittableRandom random) {
+        final var values = generateSolution(random);
+        final var order = Permutations.shuffled(geometry.getCells(), random);
+        var givens = values.length;
+        for (final var index : order) {
+            if (givens <= targetGivens) {
+                break;
+            }
+            final var mirror = symmetry.mirror(geometry, index);
+            if (values[index] == 0 || values[mirror] == 0) {
+                continue;
+            }
+            final var value = values[index];
+            final var mirrorValue = values[mirror];
+            values[index] = 0;
+            values[mirror] = 0;
+            if (isUnique(values)) {
+                givens -= index == mirror ? 1 : 2;
+            } else {
+                values[index] = value;
+                values[mirror] = mirrorValue;
+            }
+        }
+        return BoardParser.fromValues(geometry, values);
+    }
+
+    int[] generateSolution(SplittableRandom random) {
+        final var board = new Board(geometry).toSearchBoard();
+        if (!new Backtracking(new RandomBranching(random)).solve(board)) {
+            throw new IllegalStateException("Unable to fill a %dx%d board".formatted(geometry.getRows(), geometry.getColumns()));
+        }
+        final var values = new int[geometry.getCells()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = board.getValue(index);
+        }
+        return values;
+    }
+
+    private boolean isUnique(int[] values) {
+        final var total = new AtomicLong();
+        new Backtracking(Branching.DEFAULT, Technique.DEFAULT, new CancellationToken(), table)
+                .count(BoardParser.fromValues(geometry, values.clone()).toSearchBoard(), total, 2);
+        return total.get() == 1;
+    }
+
+}
@@ -0,0 +1,20 @@
+package app.base;
+
+public class GeneratorBenchmark {
+
+    private static final int PUZZLES = 2_000;
+
+    public static void main(String[] args) {
+        final var generator = new Generator(Geometry.of(9, 9), Symmetry.ROTATIONAL, 0);
+        generator.generate(0, PUZZLES / 10).count();
+        final var startTime = System.nanoTime();
+        final var givens = generator.generate(42, PUZZLES)
+                .mapToLong(board -> board.getFields().filter(Sudoku.Board.Field::isFilled).count())
+                .summaryStatistics();
+        final var seconds = (System.nanoTime() - startTime) / Math.pow(10, 9);
+        System.out.printf("Generated %d unique puzzles in %.3fs (%.0f puzzles/s), givens: min %d, avg %.1f, max %d%n",
+                givens.getCount(), seconds, givens.getCount() / seconds,
+                givens.getMin(), givens.getAverage(), givens.getMax());
+    }
+
+}
@@ -0,0 +1,311 @@
+package app.base;
+
+import app.base.Sudoku.Board.Group;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+final class Geometry {
+    private static final Map<Long, Geometry> GEOMETRIES = new ConcurrentHashMap<>();
+
+    private final int rows;
+    private final int columns;
+    private final int squareHeight;
+    private final int squareWidth;
+    private final int digits;
+    private final int[][] rowUnits;
+    private final int[][] columnUnits;
+    private final int[][] squareUnits;
+    private final int[][] units;
+    private final int[] squareOf;
+    private final int[][] unitsOf;
+    private final int[][] peers;
+    private final List<Group> groups;
+    private final List<Intersection> intersections;
+    private final long[] zobristKeys;
+
+    private Geometry(int squareHeight, int squareWidth) {
+        this.rows = squareHeight * squareWidth;
+        this.columns = squareHeight * squareWidth;
+        this.squareHeight = squareHeight;
+        this.squareWidth = squareWidth;
+        this.digits = squareHeight * squareWidth;
+        this.rowUnits = generateRowUnits();
+        this.columnUnits = generateColumnUnits();
+        this.squareUnits = generateSquareUnits();
+        this.units = generateUnits();
+        this.squareOf = generateSquareOf();
+        this.unitsOf = generateUnitsOf();
+        this.peers = generatePeers();
+        this.groups = generateGroups();
+        this.intersections = generateIntersections();
+        this.zobristKeys = generateZobristKeys();
+    }
+
+    /**
+     * Returns the geometry of a square board with the most nearly square boxes that tile it,
+     * e.g. 3x3 boxes for 9x9, 2x3 boxes for 6x6 and 3x4 boxes for 12x12.
+     */
+    static Geometry of(int rows, int columns) {
+        if (rows != columns) {
+            throw new IllegalArgumentException("Invalid board size: %dx%d".formatted(rows, columns));
+        }
+        var squareHeight = (int) Math.sqrt(rows);
+        while (squareHeight > 1 && rows % squareHeight != 0) {
+            squareHeight--;
+        }
+        return of(rows, squareHeight, rows / Math.max(squareHeight, 1));
+    }
+
+    static Geometry of(int size, int squareHeight, int squareWidth) {
+        if (squareHeight <= 0 || squareWidth <= 0 || squareHeight * squareWidth != size || size > Candidates.MAX_DIGITS
+                || (size > 1 && (squareHeight == 1 || squareWidth == 1))) {
+            throw new IllegalArgumentException("Invalid board size: %dx%d with %dx%d boxes".formatted(size, size, squareHeight, squareWidth));
+        }
+        return GEOMETRIES.computeIfAbsent(((long) squareHeight << 32) | squareWidth, it -> new Geometry(squareHeight, squareWidth));
+    }
+
+    int index(int row, int column) {
+        return row * getColumns() + column;
+    }
+
+    int row(int index) {
+        return index / getColumns();
+    }
+
+    int column(int index) {
+        return index % getColumns();
+    }
+
+    int square(int index) {
+        return squareOf[index];
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    int getCells() {
+        return rows * columns;
+    }
+
+    int getSquareHeight() {
+        return squareHeight;
+    }
+
+    int getSquareWidth() {
+        return squareWidth;
+    }
+
+    int getDigits() {
+        return digits;
+    }
+
+    int[][] getUnits() {
+        return units;
+    }
+
+    int[][] getRowUnits() {
+        return rowUnits;
+    }
+
+    int[][] getColumnUnits() {
+        return columnUnits;
+    }
+
+    int[][] getSquareUnits() {
+        return squareUnits;
+    }
+
+    int[] getUnitsOf(int index) {
+        return unitsOf[index];
+    }
+
+    int[] getPeers(int index) {
+        return peers[index];
+    }
+
+    List<Group> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Returns the key XOR-ed into a board's Zobrist hash while the cell holds the value, zero for empty cells.
+     */
+    long getZobristKey(int index, int value) {
+        return zobristKeys[index * (digits + 1) + value];
+    }
+
+    long hash(int[] values) {
+        var hash = 0L;
+        for (int index = 0; index < values.length; index++) {
+            hash ^= getZobristKey(index, values[index]);
+        }
+        return hash;
+    }
+
+    List<Intersection> getIntersections() {
+        return intersections;
+    }
+
+    int[] getRow(int index) {
+        return rowUnits[index];
+    }
+
+    int[] getColumn(int index) {
+        return columnUnits[index];
+    }
+
+    int[] getSquare(int xIndex, int yIndex) {
+        return squareUnits[xIndex * (getRows() / squareHeight) + yIndex];
+    }
+
+    private int[][] generateRowUnits() {
+        return IntStream.range(0, getRows())
+                .mapToObj(row -> IntStream.range(0, getColumns())
+                        .map(column -> index(row, column))
+                        .toArray())
+                .toArray(int[][]::new);
+    }
+
+    private int[][] generateColumnUnits() {
+        return IntStream.range(0, getColumns())
+                .mapToObj(column -> IntStream.range(0, getRows())
+                        .map(row -> index(row, column))
+                        .toArray())
+                .toArray(int[][]::new);
+    }
+
+    // squares are laid out column of squares by column of squares, as getSquare looks them up
+    private int[][] generateSquareUnits() {
+        final var squares = new ArrayList<int[]>();
+        for (int xIndex = 0; xIndex < (getColumns() / squareWidth); xIndex++) {
+            for (int yIndex = 0; yIndex < (getRows() / squareHeight); yIndex++) {
+                final var x = xIndex;
+                final var y = yIndex;
+                squares.add(IntStream.range(0, squareHeight * squareWidth)
+                        .map(it -> index(y * squareHeight + it / squareWidth, x * squareWidth + it % squareWidth))
+                        .toArray());
+            }
+        }
+        return squares.toArray(int[][]::new);
+    }
+
+    private int[][] generateUnits() {
+        return Stream.of(squareUnits, rowUnits, columnUnits)
+                .flatMap(Arrays::stream)
+                .toArray(int[][]::new);
+    }
+
+    private int[] generateSquareOf() {
+        final var squareOf = new int[getCells()];
+        Arrays.fill(squareOf, -1);
+        for (int square = 0; square < squareUnits.length; square++) {
+            for (final var index : squareUnits[square]) {
+                squareOf[index] = square;
+            }
+        }
+        return squareOf;
+    }
+
+    // units are laid out as squares, then rows, then columns
+    private int[][] generateUnitsOf() {
+        return IntStream.range(0, getCells())
+                .mapToObj(index -> new int[]{
+                        squareOf[index],
+                        squareUnits.length + row(index),
+                        squareUnits.length + rowUnits.length + column(index)})
+                .toArray(int[][]::new);
+    }
+
+    private int[][] generatePeers() {
+        return IntStream.range(0, getCells())
+                .mapToObj(index -> Arrays.stream(getUnitsOf(index))
+                        .flatMap(unit -> Arrays.stream(units[unit]))
+                        .filter(it -> it != index)
+                        .distinct()
+                        .sorted()
+                        .toArray())
+                .toArray(int[][]::new);
+    }
+
+    private List<Group> generateGroups() {
+        final var groups = new ArrayList<Group>(units.length);
+        for (final var unit : units) {
+            groups.add(new Group(unit));
+        }
+        return Collections.unmodifiableList(groups);
+    }
+
+    private List<Intersection> generateIntersections() {
+        final var intersections = new ArrayList<Intersection>();
+        for (final var square : squareUnits) {
+            for (final var lines : List.of(rowUnits, columnUnits)) {
+                for (final var line : lines) {
+                    final var cells = Arrays.stream(square)
+                            .filter(it -> contains(line, it))
+                            .toArray();
+                    if (cells.length > 1) {
+                        intersections.add(new Intersection(
+                                cells,
+                                Arrays.stream(square).filter(it -> !contains(cells, it)).toArray(),
+                                Arrays.stream(line).filter(it -> !contains(cells, it)).toArray()));
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(intersections);
+    }
+
+    // seeded by the box shape so hashes are stable across runs, empty cells keep a zero key
+    private long[] generateZobristKeys() {
+        final var random = new SplittableRandom(((long) squareHeight << 32) | squareWidth);
+        final var keys = new long[getCells() * (digits + 1)];
+        for (int index = 0; index < keys.length; index++) {
+            if (index % (digits + 1) != 0) {
+                keys[index] = random.nextLong();
+            }
+        }
+        return keys;
+    }
+
+    private static boolean contains(int[] indices, int index) {
+        return Arrays.stream(indices).anyMatch(it -> it == index);
+    }
+
+    static final class Intersection {
+        private final int[] cells;
+        private final int[] squareRest;
+        private final int[] lineRest;
+
+        Intersection(int[] cells, int[] squareRest, int[] lineRest) {
+            this.cells = cells;
+            this.squareRest = squareRest;
+            this.lineRest = lineRest;
+        }
+
+        int[] getCells() {
+            return cells;
+        }
+
+        int[] getSquareRest() {
+            return squareRest;
+        }
+
+        int[] getLineRest() {
+            return lineRest;
+        }
+    }
+
+}
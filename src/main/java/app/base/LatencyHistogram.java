@@ -0,0 +1,158 @@
+package app.base;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// log-bucketed like HdrHistogram: every power of two is split into SUB_BUCKETS linear steps, so any recorded
+// value is reported within 1/SUB_BUCKETS of itself, and buckets are striped counters so threads never contend
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double NANOS_PER_MILLI = 1_000_000;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        final var value = Math.max(nanos, 0);
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    void add(LatencyHistogram histogram) {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i].add(histogram.buckets[i].sum());
+        }
+        count.add(histogram.getCount());
+        total.add(histogram.getTotal());
+        max.accumulate(histogram.getMax());
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getTotal() {
+        return total.sum();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    double getMean() {
+        final var count = getCount();
+        return count == 0 ? 0 : (double) getTotal() / count;
+    }
+
+    /**
+     * Returns the highest value that is equivalent, within the histogram's precision, to the given percentile.
+     */
+    long getPercentile(double percentile) {
+        final var count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        final var rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        var seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    String summary() {
+        return "count=%d, mean=%.3fms, p50=%.3fms, p90=%.3fms, p99=%.3fms, p99.9=%.3fms, max=%.3fms".formatted(
+                getCount(), getMean() / NANOS_PER_MILLI, millis(getPercentile(50)), millis(getPercentile(90)),
+                millis(getPercentile(99)), millis(getPercentile(99.9)), millis(getMax()));
+    }
+
+    /**
+     * Writes the percentile distribution in milliseconds, in the text layout HdrHistogram uses,
+     * so runs can be compared with its plotting tools.
+     */
+    void dump(Path path) throws IOException {
+        try (final var out = new PrintStream(Files.newOutputStream(path), false, StandardCharsets.UTF_8)) {
+            out.printf("%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+            final var count = getCount();
+            var seen = 0L;
+            for (int i = 0; i < BUCKETS && seen < count; i++) {
+                final var bucket = buckets[i].sum();
+                if (bucket == 0) {
+                    continue;
+                }
+                seen += bucket;
+                final var percentile = (double) seen / count;
+                out.printf("%12.3f %2.12f %10d %14.2f%n", millis(Math.min(highestValueOf(i), getMax())), percentile,
+                        seen, percentile < 1 ? 1 / (1 - percentile) : Double.POSITIVE_INFINITY);
+            }
+            out.printf("#[Mean    = %12.3f, StdDeviation   = %12.3f]%n", getMean() / NANOS_PER_MILLI, deviation() / NANOS_PER_MILLI);
+            out.printf("#[Max     = %12.3f, Total count    = %12d]%n", millis(getMax()), count);
+            out.printf("#[Buckets = %12d, SubBuckets     = %12d]%n", Long.SIZE - SUB_BUCKET_BITS, SUB_BUCKETS);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private double deviation() {
+        final var count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        final var mean = getMean();
+        var squares = 0.0;
+        for (int i = 0; i < BUCKETS; i++) {
+            final var bucket = buckets[i].sum();
+            if (bucket != 0) {
+                final var deviation = Math.min(highestValueOf(i), getMax()) - mean;
+                squares += deviation * deviation * bucket;
+            }
+        }
+        return Math.sqrt(squares / count);
+    }
+
+    // values below 2 * SUB_BUCKETS are counted exactly, larger ones by their top SUB_BUCKET_BITS + 1 bits
+    private static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        final var shift = bucket / SUB_BUCKETS - 1;
+        final var mantissa = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS);
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+}
@@ -0,0 +1,64 @@
+package app.base;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of named counters and latency histograms that can be read in-process while solves are running.
+ */
+final class Metrics {
+    static final Metrics GLOBAL = new Metrics();
+
+    private static final String[] ELIMINATIONS = eliminationNames();
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, it -> new LongAdder());
+    }
+
+    LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, it -> new LatencyHistogram());
+    }
+
+    void recordSolve(SearchStatistics statistics, long nanos, boolean solved) {
+        counter("solves").increment();
+        if (solved) {
+            counter("solved").increment();
+        }
+        counter("nodes").add(statistics.getNodes());
+        counter("branches").add(statistics.getBranches());
+        counter("backtracks").add(statistics.getBacktracks());
+        counter("failures").add(statistics.getFailures());
+        counter("forks").add(statistics.getForks());
+        counter("transpositions").add(statistics.getTranspositions());
+        for (final var technique : Technique.values()) {
+            counter(ELIMINATIONS[technique.ordinal()]).add(statistics.getEliminations(technique));
+        }
+        histogram("solve").record(nanos);
+    }
+
+    Map<String, Long> getCounters() {
+        final var snapshot = new TreeMap<String, Long>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    private static String[] eliminationNames() {
+        final var names = new String[Technique.values().length];
+        for (final var technique : Technique.values()) {
+            names[technique.ordinal()] = "eliminations." + technique.name().toLowerCase(Locale.ROOT);
+        }
+        return names;
+    }
+
+}
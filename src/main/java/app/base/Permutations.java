@@ -0,0 +1,34 @@
+package app.base;
+
+import java.util.SplittableRandom;
+
+final class Permutations {
+
+    private Permutations() {
+    }
+
+    /**
+     * Fisher-Yates shuffles the first count values in place.
+     */
+    static void shuffle(int[] values, int count, SplittableRandom random) {
+        for (int i = count - 1; i > 0; i--) {
+            final var j = random.nextInt(i + 1);
+            final var value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Returns 0 to size - 1 in random order.
+     */
+    static int[] shuffled(int size, SplittableRandom random) {
+        final var shuffled = new int[size];
+        for (int i = 0; i < size; i++) {
+            shuffled[i] = i;
+        }
+        shuffle(shuffled, size, random);
+        return shuffled;
+    }
+
+}
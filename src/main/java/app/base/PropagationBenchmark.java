@@ -0,0 +1,40 @@
+package app.base;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import static app.base.Technique.*;
+
+public class PropagationBenchmark {
+
+    private static final int ITERATIONS = 50;
+
+    public static void main(String[] args) {
+        final var configurations = new LinkedHashMap<String, Set<Technique>>();
+        configurations.put("singles", Technique.SINGLES);
+        configurations.put("locked candidates", EnumSet.of(NAKED_SINGLES, HIDDEN_SINGLES, LOCKED_CANDIDATES));
+        configurations.put("subsets", EnumSet.range(NAKED_SINGLES, HIDDEN_TRIPLES));
+        configurations.put("all", Technique.ALL);
+        final var puzzles = Puzzles.samples();
+        configurations.forEach((name, techniques) -> {
+            final var statistics = new SearchStatistics();
+            final var startTime = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                for (final var puzzle : puzzles) {
+                    final var backtracking = new Backtracking(Branching.DEFAULT, techniques);
+                    backtracking.solve(puzzle.toSearchBoard());
+                    statistics.add(backtracking.getStatistics());
+                }
+            }
+            System.out.printf("%s: %.3fms per pass, %s%n", name,
+                    (System.nanoTime() - startTime) / Math.pow(10, 6) / ITERATIONS, statistics);
+            for (final var technique : techniques) {
+                System.out.printf("    %-18s eliminations: %8d, time: %.3fms%n", technique,
+                        statistics.getEliminations(technique) / ITERATIONS,
+                        statistics.getNanos(technique) / Math.pow(10, 6) / ITERATIONS);
+            }
+        });
+    }
+
+}
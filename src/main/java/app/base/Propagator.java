@@ -0,0 +1,42 @@
+package app.base;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+final class Propagator {
+    private final Technique[] techniques;
+    private final SearchStatistics statistics;
+
+    Propagator() {
+        this(Technique.DEFAULT, new SearchStatistics());
+    }
+
+    Propagator(Set<Technique> techniques, SearchStatistics statistics) {
+        final var ordered = EnumSet.noneOf(Technique.class);
+        ordered.addAll(Objects.requireNonNull(techniques));
+        this.techniques = ordered.toArray(Technique[]::new);
+        this.statistics = Objects.requireNonNull(statistics);
+    }
+
+    boolean propagate(SearchBoard board) {
+        var step = 0;
+        while (step < techniques.length) {
+            final var technique = techniques[step];
+            final var startTime = System.nanoTime();
+            final var changes = technique.apply(board);
+            statistics.recordTechnique(technique, Math.max(changes, 0), System.nanoTime() - startTime);
+            if (changes < 0) {
+                return false;
+            }
+            // restart from the cheapest technique whenever something changed
+            step = changes > 0 ? 0 : step + 1;
+        }
+        return true;
+    }
+
+    SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+}
@@ -0,0 +1,159 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+final class PuzzleFileSolver {
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 1024 * 1024;
+
+    private final BatchSolver solver;
+    private final Geometry geometry;
+    private final int chunkSize;
+    private long puzzles;
+    private long solved;
+
+    PuzzleFileSolver(BatchSolver solver) {
+        this(solver, Geometry.of(9, 9), DEFAULT_CHUNK_SIZE);
+    }
+
+    PuzzleFileSolver(BatchSolver solver, Geometry geometry, int chunkSize) {
+        this.solver = Objects.requireNonNull(solver);
+        this.geometry = Objects.requireNonNull(geometry);
+        if (chunkSize <= geometry.getCells()) {
+            throw new IllegalArgumentException("Chunk size has to exceed a single puzzle line: %d".formatted(chunkSize));
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    void solve(Path input, Path output) throws IOException {
+        try (final var in = FileChannel.open(input, StandardOpenOption.READ);
+             final var out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+            final var size = in.size();
+            var position = 0L;
+            while (position < size) {
+                final var length = (int) Math.min(chunkSize, size - position);
+                final var chunk = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                final var end = position + length == size ? length : lastLineEnd(chunk);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Line at offset %d exceeds the chunk size".formatted(position));
+                }
+                solveChunk(chunk, position, end, out, buffer);
+                position += end;
+            }
+            flush(out, buffer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    long getPuzzles() {
+        return puzzles;
+    }
+
+    long getSolved() {
+        return solved;
+    }
+
+    private void solveChunk(MappedByteBuffer chunk, long position, int end, FileChannel out, ByteBuffer buffer) {
+        final var event = new ChunkEvent();
+        event.begin();
+        final var puzzles = this.puzzles;
+        final var solved = this.solved;
+        solver.solve(new ChunkIterator(chunk, end), solution -> {
+            if (solution.isSolved()) {
+                this.solved++;
+            }
+            if (buffer.remaining() <= geometry.getCells()) {
+                flush(out, buffer);
+            }
+            BoardParser.write(solution, buffer);
+        });
+        event.end();
+        if (event.shouldCommit()) {
+            event.offset = position;
+            event.length = end;
+            event.puzzles = this.puzzles - puzzles;
+            event.solved = this.solved - solved;
+            event.commit();
+        }
+    }
+
+    // returns the offset just past the last complete line of the chunk, or -1 if it contains none
+    private static int lastLineEnd(MappedByteBuffer chunk) {
+        for (int offset = chunk.limit() - 1; offset >= 0; offset--) {
+            if (chunk.get(offset) == '\n') {
+                return offset + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private final class ChunkIterator implements Iterator<Board> {
+        private final MappedByteBuffer chunk;
+        private final int end;
+        private int start;
+
+        private ChunkIterator(MappedByteBuffer chunk, int end) {
+            this.chunk = chunk;
+            this.end = end;
+            skipBlankLines();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return start < end;
+        }
+
+        @Override
+        public Board next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var lineEnd = start;
+            while (lineEnd < end && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            final var length = chunk.get(lineEnd - 1) == '\r' ? lineEnd - 1 - start : lineEnd - start;
+            if (length < geometry.getCells()) {
+                throw new IllegalArgumentException("Puzzle %d has fewer than %d cells".formatted(puzzles + 1, geometry.getCells()));
+            }
+            final var board = BoardParser.parse(chunk, start, geometry);
+            puzzles++;
+            start = lineEnd + 1;
+            skipBlankLines();
+            return board;
+        }
+
+        private void skipBlankLines() {
+            while (start < end && (chunk.get(start) == '\n' || chunk.get(start) == '\r')) {
+                start++;
+            }
+        }
+    }
+
+}
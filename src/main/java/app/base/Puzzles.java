@@ -0,0 +1,27 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+final class Puzzles {
+    static final String HARD = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    static final List<String> SAMPLES = List.of(
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300",
+            "000000010400000000020000000000050407008000300001090000300400200050100000000806000",
+            "400000805030000000000700000020000060000080400000010000000603070500200000104000000",
+            HARD,
+            "000000000000000000000000000000000000000000000000000000000000000000000000000000000");
+
+    private Puzzles() {
+    }
+
+    static List<Board> samples() {
+        return SAMPLES.stream()
+                .map(BoardParser::parse)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+}
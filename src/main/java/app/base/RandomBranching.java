@@ -0,0 +1,25 @@
+package app.base;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+final class RandomBranching implements BranchingStrategy {
+    private final SplittableRandom random;
+
+    RandomBranching(SplittableRandom random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
+    @Override
+    public int selectCell(BoardView board) {
+        return Branching.MINIMUM_REMAINING_VALUES.selectCell(board);
+    }
+
+    @Override
+    public int orderValues(BoardView board, int index, int[] values) {
+        final var count = BranchingStrategy.super.orderValues(board, index, values);
+        Permutations.shuffle(values, count, random);
+        return count;
+    }
+
+}
@@ -0,0 +1,31 @@
+package app.base;
+
+import java.util.stream.Collectors;
+
+public class RatingBenchmark {
+
+    private static final int PUZZLES = 500;
+
+    public static void main(String[] args) {
+        Puzzles.samples().forEach(it -> System.out.println(new DifficultyRater().rate(it)));
+        final var puzzles = new Generator().generate(42, PUZZLES).collect(Collectors.toUnmodifiableList());
+        final var rater = new DifficultyRater();
+        final var solver = new BacktrackingSolver(false);
+        for (int i = 0; i < 3; i++) {
+            puzzles.forEach(rater::rate);
+            puzzles.forEach(solver::solve);
+        }
+        var startTime = System.nanoTime();
+        final var score = puzzles.stream()
+                .mapToDouble(it -> rater.rate(it).getScore())
+                .average()
+                .orElseThrow();
+        final var ratingTime = (System.nanoTime() - startTime) / Math.pow(10, 3) / PUZZLES;
+        startTime = System.nanoTime();
+        puzzles.forEach(solver::solve);
+        final var solvingTime = (System.nanoTime() - startTime) / Math.pow(10, 3) / PUZZLES;
+        System.out.printf("Average score: %.2f, rating: %.1fus per puzzle, solving: %.1fus per puzzle%n",
+                score, ratingTime, solvingTime);
+    }
+
+}
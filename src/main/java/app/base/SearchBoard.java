@@ -0,0 +1,142 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Objects;
+
+final class SearchBoard implements BoardView {
+    private final Geometry geometry;
+    private final int[] values;
+    private final long[] candidates;
+    // (index, previous candidates) entries, or (~index, previous value) for assignments
+    private final int[] trailIndices;
+    private final long[] trailValues;
+    private int trailSize;
+    private int empty;
+    private long hash;
+
+    SearchBoard(Geometry geometry, int[] values, long[] candidates) {
+        this(geometry, values, candidates, geometry.hash(values));
+    }
+
+    SearchBoard(Geometry geometry, int[] values, long[] candidates, long hash) {
+        this.geometry = Objects.requireNonNull(geometry);
+        this.values = Objects.requireNonNull(values);
+        this.candidates = Objects.requireNonNull(candidates);
+        // every candidate bit and every value changes at most once along a search path
+        this.trailIndices = new int[geometry.getCells() * (geometry.getDigits() + 1)];
+        this.trailValues = new long[trailIndices.length];
+        this.empty = countEmpty();
+        this.hash = hash;
+    }
+
+    Board toBoard() {
+        return new Board(getGeometry(), values.clone(), candidates.clone());
+    }
+
+    SearchBoard copy() {
+        return new SearchBoard(getGeometry(), values.clone(), candidates.clone(), hash);
+    }
+
+    boolean isSolved() {
+        return empty == 0;
+    }
+
+    boolean assign(int index, int value) {
+        push(~index, values[index]);
+        hash ^= geometry.getZobristKey(index, values[index]) ^ geometry.getZobristKey(index, value);
+        values[index] = value;
+        empty--;
+        restrict(index, value);
+        for (final var peer : getGeometry().getPeers(index)) {
+            if (restrict(peer, value) && !isConsistent(peer, value)) {
+                return false;
+            }
+        }
+        // the digits the cell could still hold have to find another place in its units
+        return hasPlaces(index, candidates[index]);
+    }
+
+    boolean restrict(int index, int value) {
+        final var current = candidates[index];
+        if (!Candidates.contains(current, value)) {
+            return false;
+        }
+        push(index, current);
+        candidates[index] = Candidates.remove(current, value);
+        return true;
+    }
+
+    boolean eliminate(int index, long candidates) {
+        final var current = this.candidates[index];
+        final var removed = current & candidates;
+        if (removed == Candidates.NONE) {
+            return true;
+        }
+        push(index, current);
+        this.candidates[index] = current & ~candidates;
+        for (var it = removed; it != Candidates.NONE; it = Candidates.withoutLowest(it)) {
+            if (!isConsistent(index, Candidates.lowest(it))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int mark() {
+        return trailSize;
+    }
+
+    void undo(int mark) {
+        while (trailSize > mark) {
+            final var index = trailIndices[--trailSize];
+            final var previous = trailValues[trailSize];
+            if (index < 0) {
+                hash ^= geometry.getZobristKey(~index, values[~index]) ^ geometry.getZobristKey(~index, (int) previous);
+                values[~index] = (int) previous;
+                empty++;
+            } else {
+                candidates[index] = previous;
+            }
+        }
+    }
+
+    @Override
+    public int getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    public long getCandidates(int index) {
+        return candidates[index];
+    }
+
+    long getHash() {
+        return hash;
+    }
+
+    int getEmpty() {
+        return empty;
+    }
+
+    @Override
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    private void push(int index, long previous) {
+        trailIndices[trailSize] = index;
+        trailValues[trailSize++] = previous;
+    }
+
+    private int countEmpty() {
+        var count = 0;
+        for (final var value : values) {
+            if (value == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,113 @@
+package app.base;
+
+// not thread-safe: every search thread records into its own instance and merges it with add() when done
+final class SearchStatistics {
+    private static final int TECHNIQUES = Technique.values().length;
+
+    private final long[] eliminations = new long[TECHNIQUES];
+    private final long[] nanos = new long[TECHNIQUES];
+    private long nodes;
+    private long branches;
+    private long backtracks;
+    private long failures;
+    private long forks;
+    private long transpositions;
+    private int maxDepth;
+
+    void visitNode(int depth) {
+        nodes++;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    void branch() {
+        branches++;
+    }
+
+    void backtrack() {
+        backtracks++;
+    }
+
+    void failBranch() {
+        failures++;
+    }
+
+    void fork() {
+        forks++;
+    }
+
+    void hitTransposition() {
+        transpositions++;
+    }
+
+    void recordTechnique(Technique technique, int eliminations, long nanos) {
+        this.eliminations[technique.ordinal()] += eliminations;
+        this.nanos[technique.ordinal()] += nanos;
+    }
+
+    void add(SearchStatistics statistics) {
+        add(statistics, 0);
+    }
+
+    /**
+     * Merges statistics of a search that was rooted at the given depth of this one.
+     */
+    synchronized void add(SearchStatistics statistics, int depth) {
+        nodes += statistics.getNodes();
+        branches += statistics.getBranches();
+        backtracks += statistics.getBacktracks();
+        failures += statistics.getFailures();
+        forks += statistics.getForks();
+        transpositions += statistics.getTranspositions();
+        maxDepth = Math.max(maxDepth, depth + statistics.getMaxDepth());
+        for (int i = 0; i < TECHNIQUES; i++) {
+            eliminations[i] += statistics.eliminations[i];
+            nanos[i] += statistics.nanos[i];
+        }
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+
+    long getBranches() {
+        return branches;
+    }
+
+    long getBacktracks() {
+        return backtracks;
+    }
+
+    long getFailures() {
+        return failures;
+    }
+
+    long getForks() {
+        return forks;
+    }
+
+    long getTranspositions() {
+        return transpositions;
+    }
+
+    int getMaxDepth() {
+        return maxDepth;
+    }
+
+    long getEliminations(Technique technique) {
+        return eliminations[technique.ordinal()];
+    }
+
+    long getNanos(Technique technique) {
+        return nanos[technique.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return "nodes=%d, branches=%d, backtracks=%d, failures=%d, maxDepth=%d, forks=%d, transpositions=%d"
+                .formatted(getNodes(), getBranches(), getBacktracks(), getFailures(), getMaxDepth(), getForks(),
+                        getTranspositions());
+    }
+
+}
@@ -0,0 +1,105 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class SolutionCounter {
+    private final ForkJoinPool pool;
+    private final BranchingStrategy strategy;
+    private final int forkDepth;
+    private final int forkEmpty;
+    private final TranspositionTable table;
+
+    SolutionCounter() {
+        this(new ForkJoinPool(), ForkJoinSolver.DEFAULT_FORK_DEPTH, ForkJoinSolver.DEFAULT_FORK_EMPTY);
+    }
+
+    SolutionCounter(ForkJoinPool pool, int forkDepth, int forkEmpty) {
+        this(pool, Branching.DEFAULT, forkDepth, forkEmpty);
+    }
+
+    SolutionCounter(ForkJoinPool pool, BranchingStrategy strategy, int forkDepth, int forkEmpty) {
+        this(pool, strategy, forkDepth, forkEmpty, new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY));
+    }
+
+    // uniqueness checks on puzzles that differ by a few givens revisit the same dead states, so every count
+    // shares the table with the ones before it
+    SolutionCounter(ForkJoinPool pool, BranchingStrategy strategy, int forkDepth, int forkEmpty, TranspositionTable table) {
+        this.pool = Objects.requireNonNull(pool);
+        this.strategy = Objects.requireNonNull(strategy);
+        this.forkDepth = forkDepth;
+        this.forkEmpty = forkEmpty;
+        this.table = Objects.requireNonNull(table);
+    }
+
+    long count(Board board, long limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid solution limit: %d".formatted(limit));
+        }
+        if (Objects.requireNonNull(board).isContradicted()) {
+            return 0;
+        }
+        final var total = new AtomicLong();
+        pool.invoke(new CountTask(board.toSearchBoard(), 0, total, limit, new CancellationToken()));
+        // parallel subtrees may overshoot before they notice the limit was reached
+        return Math.min(total.get(), limit);
+    }
+
+    boolean isUnique(Board board) {
+        return count(board, 2) == 1;
+    }
+
+    @SuppressWarnings("serial")
+    private final class CountTask extends RecursiveAction {
+        private final SearchBoard board;
+        private final int depth;
+        private final AtomicLong total;
+        private final long limit;
+        private final CancellationToken token;
+
+        private CountTask(SearchBoard board, int depth, AtomicLong total, long limit, CancellationToken token) {
+            this.board = board;
+            this.depth = depth;
+            this.total = total;
+            this.limit = limit;
+            this.token = token;
+        }
+
+        @Override
+        protected void compute() {
+            if (token.isCancelled()) {
+                return;
+            }
+            if (depth >= forkDepth || board.getEmpty() < forkEmpty) {
+                new Backtracking(strategy, Technique.DEFAULT, token, table).count(board, total, limit);
+                return;
+            }
+            if (!new Propagator().propagate(board)) {
+                return;
+            }
+            final var index = strategy.selectCell(board);
+            if (index < 0) {
+                if (total.incrementAndGet() >= limit) {
+                    token.cancel();
+                }
+                return;
+            }
+            final var values = new int[board.getGeometry().getDigits()];
+            final var count = strategy.orderValues(board, index, values);
+            final var tasks = new ArrayList<CountTask>(count);
+            for (int i = 0; i < count; i++) {
+                final var child = board.copy();
+                if (child.assign(index, values[i])) {
+                    tasks.add(new CountTask(child, depth + 1, total, limit, token));
+                }
+            }
+            invokeAll(tasks);
+        }
+    }
+
+}
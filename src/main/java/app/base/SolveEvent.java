@@ -0,0 +1,27 @@
+package app.base;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("app.base.Solve")
+@Label("Solve")
+@Category("Sudoku")
+@Description("A single puzzle solved through Sudoku.solve, from start to end")
+@Enabled(false)
+final class SolveEvent extends Event {
+    @Label("Solver")
+    String solver;
+
+    @Label("Givens")
+    int givens;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Solved")
+    boolean solved;
+}
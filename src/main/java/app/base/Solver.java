@@ -0,0 +1,17 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+interface Solver {
+
+    Board solve(Board board);
+
+    /**
+     * Solves the board and adds the search work it took to the given statistics.
+     * Solvers that do not track their search report nothing.
+     */
+    default Board solve(Board board, SearchStatistics statistics) {
+        return solve(board);
+    }
+
+}
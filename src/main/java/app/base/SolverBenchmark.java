@@ -0,0 +1,35 @@
+package app.base;
+
+import java.util.LinkedHashMap;
+
+public class SolverBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 100;
+
+    public static void main(String[] args) {
+        final var solvers = new LinkedHashMap<String, Solver>();
+        solvers.put("backtracking", new BacktrackingSolver());
+        solvers.put("dancing links", new DancingLinksSolver());
+        solvers.put("bit-parallel", new BitParallelSolver());
+        final var puzzles = Puzzles.samples();
+        solvers.forEach((name, solver) -> {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                puzzles.forEach(solver::solve);
+            }
+            var solved = 0;
+            final var startTime = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                for (final var puzzle : puzzles) {
+                    if (Sudoku.solve(puzzle, solver).isSolved()) {
+                        solved++;
+                    }
+                }
+            }
+            System.out.printf("%-16s solved: %d/%d, %.3fms per puzzle%n", name,
+                    solved, ITERATIONS * puzzles.size(),
+                    (System.nanoTime() - startTime) / Math.pow(10, 6) / (ITERATIONS * puzzles.size()));
+        });
+    }
+
+}
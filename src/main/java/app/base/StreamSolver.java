@@ -0,0 +1,20 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.Objects;
+
+final class StreamSolver implements Solver {
+
+    @Override
+    public Board solve(Board board) {
+        return Objects.requireNonNull(board)
+                .nextUpdates()
+                .parallel()
+                .map(it -> solve(board.apply(it)))
+                .filter(Board::isSolved)
+                .findAny()
+                .orElse(board);
+    }
+
+}
@@ -1,76 +1,160 @@
 package app.base;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class Sudoku {
+    static final Solver DEFAULT_SOLVER = new BacktrackingSolver();
+    static final SolutionCounter DEFAULT_COUNTER = new SolutionCounter();
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 100;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--report")) {
+            report(args.length > 1 ? BoardParser.parse(args[1]) : new Board(),
+                    args.length > 2 ? Integer.parseInt(args[2]) : WARMUP_ITERATIONS,
+                    args.length > 3 ? Integer.parseInt(args[3]) : ITERATIONS,
+                    args.length > 4 ? Path.of(args[4]) : null);
+            return;
+        }
+        if (args.length >= 2) {
+            solveFile(Path.of(args[0]), Path.of(args[1]));
+            return;
+        }
+        report(args.length > 0 ? BoardParser.parse(args[0]) : new Board(), WARMUP_ITERATIONS, ITERATIONS, null);
+    }
 
-    public static void main(String[] args) {
-        final var times = new ArrayList<Double>(100);
-        for (int i = 0; i < 100; i++) {
+    // solves the same board repeatedly, keeping warmup latencies apart from the measured ones
+    private static void report(Board board, int warmupIterations, int iterations, Path histogram) throws IOException {
+        final var warmup = new LatencyHistogram();
+        final var measured = new LatencyHistogram();
+        var solution = board;
+        for (int i = 0; i < warmupIterations + iterations; i++) {
             final var startTime = System.nanoTime();
-            final var solution = solve(new Board());
-            times.add((System.nanoTime() - startTime) / Math.pow(10, 9));
-            System.out.println(solution.isSolved() ?
-                    """
-                            Solution found!
-                                                        
-                            Computation time: %.3fs                                               
-                            Board state:
-                            %s
-                            """.formatted(times.get(i), solution)
-                    :
-                    """
-                            Solution was not found :(
-                                                
-                            Computation time: %.3fs
-                            Board state:
-                            %s
-                            """.formatted(times.get(i), solution));
-        }
-        System.out.printf("Average time: %.3fs%n", times
-                .stream()
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElseThrow());
+            solution = solve(board);
+            (i < warmupIterations ? warmup : measured).record(System.nanoTime() - startTime);
+        }
+        System.out.println(solution.isSolved() ?
+                """
+                        Solution found!
+
+                        Board state:
+                        %s
+                        """.formatted(solution)
+                :
+                """
+                        Solution was not found :(
+
+                        Board state:
+                        %s
+                        """.formatted(solution));
+        System.out.printf("Warmup:   %s%n", warmup.summary());
+        System.out.printf("Measured: %s%n", measured.summary());
+        if (histogram != null) {
+            measured.dump(histogram);
+            System.out.printf("Histogram written to %s%n", histogram);
+        }
+    }
+
+    private static void solveFile(Path input, Path output) throws IOException {
+        final var startTime = System.nanoTime();
+        try (final var batch = new BatchSolver(new BacktrackingSolver(false))) {
+            final var solver = new PuzzleFileSolver(batch);
+            solver.solve(input, output);
+            System.out.printf("Solved %d/%d puzzles in %.3fs%n",
+                    solver.getSolved(), solver.getPuzzles(), (System.nanoTime() - startTime) / Math.pow(10, 9));
+        }
     }
 
-    private static Board solve(Board board) {
-        return Objects.requireNonNull(board)
-                .nextUpdates()
-                .parallel()
-                .map(it -> solve(board.apply(it)))
-                .filter(Board::isSolved)
-                .findAny()
-                .orElse(board);
+    static Board solve(Board board) {
+        return solve(board, DEFAULT_SOLVER);
     }
 
-    static class Board {
-        private static final int SQUARE_SIZE = 3;
+    static Board solve(Board board, Solver solver) {
+        return solve(board, solver, new SearchStatistics());
+    }
+
+    static Board solve(Board board, Solver solver, SearchStatistics statistics) {
+        final var event = new SolveEvent();
+        event.begin();
+        // callers may pass statistics that already hold earlier solves, metrics and events only see this one
+        final var local = new SearchStatistics();
+        final var startTime = System.nanoTime();
+        final var solution = solver.solve(Objects.requireNonNull(board), local);
+        Metrics.GLOBAL.recordSolve(local, System.nanoTime() - startTime, solution.isSolved());
+        statistics.add(local);
+        event.end();
+        if (event.shouldCommit()) {
+            event.solver = solver.getClass().getSimpleName();
+            event.givens = (int) board.getFields().filter(Board.Field::isFilled).count();
+            event.nodes = local.getNodes();
+            event.solved = solution.isSolved();
+            event.commit();
+        }
+        return solution;
+    }
+
+    static long countSolutions(Board board, long limit) {
+        return DEFAULT_COUNTER.count(board, limit);
+    }
+
+    static boolean hasUniqueSolution(Board board) {
+        return DEFAULT_COUNTER.isUnique(board);
+    }
 
-        private final int rows;
-        private final int columns;
-        private final Set<Field> fields;
-        private final Set<Group> groups;
+    static class Board implements BoardView {
+        private final Geometry geometry;
+        private final int[] values;
+        private final long[] candidates;
+        private final boolean contradicted;
+        private final long hash;
 
         Board() {
             this(9, 9);
         }
 
         Board(int rows, int columns) {
-            this.rows = rows;
-            this.columns = columns;
-            this.fields = Collections.unmodifiableSet(Objects.requireNonNull(generateFields()));
-            this.groups = Collections.unmodifiableSet(Objects.requireNonNull(generateGroups()));
+            this(Geometry.of(rows, columns));
         }
 
-        private Board(int rows, int columns, Set<Field> fields, Set<Group> groups) {
-            this.rows = rows;
-            this.columns = columns;
-            this.fields = Collections.unmodifiableSet(Objects.requireNonNull(fields));
-            this.groups = Collections.unmodifiableSet(Objects.requireNonNull(groups));
+        Board(int size, int squareHeight, int squareWidth) {
+            this(Geometry.of(size, squareHeight, squareWidth));
+        }
+
+        Board(Geometry geometry) {
+            this.geometry = Objects.requireNonNull(geometry);
+            this.values = new int[getGeometry().getCells()];
+            this.candidates = generateCandidates();
+            this.contradicted = false;
+            this.hash = 0L;
+        }
+
+        Board(Geometry geometry, int[] values, long[] candidates) {
+            this(geometry, values, candidates, false);
+        }
+
+        Board(Geometry geometry, int[] values, long[] candidates, boolean contradicted) {
+            this(geometry, values, candidates, contradicted, geometry.hash(values));
+        }
+
+        private Board(Geometry geometry, int[] values, long[] candidates, boolean contradicted, long hash) {
+            this.geometry = Objects.requireNonNull(geometry);
+            this.values = Objects.requireNonNull(values);
+            this.candidates = Objects.requireNonNull(candidates);
+            this.contradicted = contradicted;
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the board of a completely filled grid, none of its cells has a candidate left once every value
+         * is eliminated from its peers.
+         */
+        static Board solved(Geometry geometry, int[] values) {
+            return new Board(geometry, values, new long[geometry.getCells()]);
         }
 
         @Override
@@ -79,167 +163,154 @@ public class Sudoku {
         }
 
         boolean isSolved() {
-            return getFields()
-                    .stream()
-                    .allMatch(Field::isFilled);
+            for (final var value : values) {
+                if (value == 0) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         Board apply(Update update) {
-            final var groups = getGroups()
-                    .stream()
-                    .filter(it -> it.contains(update.getField()))
-                    .collect(Collectors.toUnmodifiableSet());
+            final var index = getGeometry().index(update.getField().getRow(), update.getField().getColumn());
+            final var value = update.getValue();
+            final var values = this.values.clone();
+            final var candidates = this.candidates.clone();
             // apply new board state
-            final var fields = getFields()
-                    .stream()
-                    .map(updateField(update, groups))
-                    .collect(Collectors.toUnmodifiableSet());
-            return new Board(getRows(), getColumns(), fields, getGroups());
+            values[index] = value;
+            candidates[index] = Candidates.remove(candidates[index], value);
+            for (final var peer : getGeometry().getPeers(index)) {
+                candidates[peer] = Candidates.remove(candidates[peer], value);
+            }
+            // the replaced value's key is zero unless the cell was already filled
+            final var hash = this.hash ^ getGeometry().getZobristKey(index, this.values[index])
+                    ^ getGeometry().getZobristKey(index, value);
+            final var board = new Board(getGeometry(), values, candidates, isContradicted(), hash);
+            return board.isContradicted() ? board : board.checkContradiction(index, value, candidates[index]);
+        }
+
+        boolean isContradicted() {
+            return contradicted;
+        }
+
+        /**
+         * Returns the Zobrist hash of the cell values, equal for boards with equal values however they were reached.
+         */
+        long getHash() {
+            return hash;
+        }
+
+        SearchBoard toSearchBoard() {
+            return new SearchBoard(getGeometry(), values.clone(), candidates.clone(), hash);
         }
 
         Stream<Update> nextUpdates() {
-            return getFields()
-                    .stream()
-                    .filter(Field::isEmpty)
-                    .findAny()
-                    .stream()
-                    .flatMap(field -> field.getPossibleValues()
-                            .stream()
-                            .map(it -> new Update(field, it)));
+            return nextUpdates(Branching.DEFAULT);
         }
 
-        Set<Field> getFields() {
-            return fields;
+        Stream<Update> nextUpdates(BranchingStrategy strategy) {
+            final var index = isContradicted() ? -1 : strategy.selectCell(this);
+            if (index < 0) {
+                return Stream.empty();
+            }
+            final var field = getField(index);
+            final var order = new int[getGeometry().getDigits()];
+            return Arrays.stream(order, 0, strategy.orderValues(this, index, order))
+                    .mapToObj(it -> new Update(field, it));
         }
 
-        Set<Group> getGroups() {
-            return groups;
+        Stream<Field> getFields() {
+            return IntStream.range(0, values.length)
+                    .mapToObj(this::getField);
         }
 
-        int getRows() {
-            return rows;
+        List<Group> getGroups() {
+            return getGeometry().getGroups();
         }
 
-        int getColumns() {
-            return columns;
+        @Override
+        public Geometry getGeometry() {
+            return geometry;
         }
 
-        private Function<Field, Field> updateField(Update update, Set<Group> groups) {
-            return field -> {
-                if (field.equals(update.getField())) {
-                    return assignValue(update, field);
-                } else if (isNeighbour(groups, field)) {
-                    return restrictPossibleValues(update, field);
-                } else {
-                    return field;
-                }
-            };
+        @Override
+        public int getValue(int index) {
+            return values[index];
         }
 
-        private Field assignValue(Update update, Field current) {
-            return new Field(
-                    current.getRow(),
-                    current.getColumn(),
-                    update.getValue(),
-                    current.getPossibleValues()
-                            .stream()
-                            .filter(n -> n != update.getValue())
-                            .collect(Collectors.toUnmodifiableSet()));
+        @Override
+        public long getCandidates(int index) {
+            return candidates[index];
         }
 
-        private boolean isNeighbour(Set<Group> groups, Field current) {
-            return groups
-                    .stream()
-                    .anyMatch(group -> group.contains(current));
+        int getRows() {
+            return getGeometry().getRows();
         }
 
-        private Field restrictPossibleValues(Update update, Field current) {
+        int getColumns() {
+            return getGeometry().getColumns();
+        }
+
+        Field getField(int row, int column) {
+            return getField(getGeometry().index(row, column));
+        }
+
+        private Field getField(int index) {
             return new Field(
-                    current.getRow(),
-                    current.getColumn(),
-                    current.getValue(),
-                    current.getPossibleValues()
-                            .stream()
-                            .filter(n -> n != update.getValue())
-                            .collect(Collectors.toUnmodifiableSet()));
+                    getGeometry().row(index),
+                    getGeometry().column(index),
+                    values[index],
+                    candidates[index]);
         }
 
-        private Set<Field> generateFields() {
-            final var fields = new HashSet<Field>();
-            for (int row = 0; row < getRows(); row++) {
-                for (int column = 0; column < getColumns(); column++) {
-                    fields.add(new Field(row, column, Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9)));
+        // the value has to keep a place around every peer, and the digits the cell gave up around the cell itself
+        private Board checkContradiction(int index, int value, long displaced) {
+            for (final var peer : getGeometry().getPeers(index)) {
+                if (!isConsistent(peer, value)) {
+                    return new Board(getGeometry(), values, candidates, true, hash);
                 }
             }
-            return fields;
+            return hasPlaces(index, displaced) ? this : new Board(getGeometry(), values, candidates, true, hash);
         }
 
-        private Set<Group> generateGroups() {
-            final var groups = new HashSet<Group>();
-            for (int xIndex = 0; xIndex < (getColumns() / SQUARE_SIZE); xIndex++) {
-                for (int yIndex = 0; yIndex < (getRows() / SQUARE_SIZE); yIndex++) {
-                    groups.add(new Group(getSquare(xIndex, yIndex)));
-                }
-            }
-            for (int row = 0; row < getRows(); row++) {
-                groups.add(new Group(getRow(row)));
-            }
-            for (int column = 0; column < getColumns(); column++) {
-                groups.add(new Group(getColumn(column)));
-            }
-            return groups;
+        private long[] generateCandidates() {
+            final var candidates = new long[getGeometry().getCells()];
+            Arrays.fill(candidates, Candidates.all(getGeometry().getDigits()));
+            return candidates;
         }
 
-        private Set<Field> getRow(int index) {
-            return getFields()
-                    .stream()
-                    .filter(it -> it.getRow() == index)
-                    .collect(Collectors.toUnmodifiableSet());
+        List<Field> getRow(int index) {
+            return getFields(getGeometry().getRow(index));
         }
 
-        private Set<Field> getColumn(int index) {
-            return getFields()
-                    .stream()
-                    .filter(it -> it.getColumn() == index)
-                    .collect(Collectors.toUnmodifiableSet());
+        List<Field> getColumn(int index) {
+            return getFields(getGeometry().getColumn(index));
         }
 
-        private Set<Field> getSquare(int xIndex, int yIndex) {
-            return getFields()
-                    .stream()
-                    .filter(it -> it.getColumn() / SQUARE_SIZE == xIndex)
-                    .filter(it -> it.getRow() / SQUARE_SIZE == yIndex)
-                    .collect(Collectors.toUnmodifiableSet());
+        List<Field> getSquare(int xIndex, int yIndex) {
+            return getFields(getGeometry().getSquare(xIndex, yIndex));
+        }
+
+        private List<Field> getFields(int[] indices) {
+            return Arrays.stream(indices)
+                    .mapToObj(this::getField)
+                    .collect(Collectors.toUnmodifiableList());
         }
 
         private String getBoardState() {
-            return getFields()
-                    .stream()
-                    .collect(Collectors.groupingBy(Field::getRow))
-                    .entrySet()
-                    .stream()
-                    .sorted(Comparator.comparingInt(Map.Entry::getKey))
-                    .map(it -> it.getValue()
+            return IntStream.range(0, getRows())
+                    .mapToObj(row -> getRow(row)
                             .stream()
-                            .sorted(Comparator.comparingInt(Field::getColumn))
                             .map(Field::toString)
                             .collect(Collectors.joining(" ")))
                     .collect(Collectors.joining("\n"));
         }
 
-        private Optional<Field> getField(int row, int column) {
-            return getFields()
-                    .stream()
-                    .filter(it -> it.getRow() == row)
-                    .filter(it -> it.getColumn() == column)
-                    .findAny();
-        }
-
         static final class Group {
-            private final Set<Field> fields;
+            private final int[] indices;
 
-            Group(Set<Field> fields) {
-                this.fields = Collections.unmodifiableSet(Objects.requireNonNull(fields));
+            Group(int[] indices) {
+                this.indices = Objects.requireNonNull(indices);
             }
 
             @Override
@@ -249,20 +320,25 @@ public class Sudoku {
 
                 Group group = (Group) o;
 
-                return getFields().equals(group.getFields());
+                return Arrays.equals(getIndices(), group.getIndices());
             }
 
             @Override
             public int hashCode() {
-                return getFields().hashCode();
+                return Arrays.hashCode(getIndices());
             }
 
-            boolean contains(Field field) {
-                return getFields().contains(field);
+            boolean contains(int index) {
+                for (final var it : getIndices()) {
+                    if (it == index) {
+                        return true;
+                    }
+                }
+                return false;
             }
 
-            Set<Field> getFields() {
-                return fields;
+            int[] getIndices() {
+                return indices;
             }
         }
 
@@ -270,17 +346,17 @@ public class Sudoku {
             private final int row;
             private final int column;
             private final int value;
-            private final Set<Integer> possibleValues;
+            private final long possibleValues;
 
-            Field(int row, int column, Set<Integer> possibleValues) {
+            Field(int row, int column, long possibleValues) {
                 this(row, column, 0, possibleValues);
             }
 
-            Field(int row, int column, int value, Set<Integer> possibleValues) {
+            Field(int row, int column, int value, long possibleValues) {
                 this.row = row;
                 this.column = column;
                 this.value = value;
-                this.possibleValues = Collections.unmodifiableSet(Objects.requireNonNull(possibleValues));
+                this.possibleValues = possibleValues;
             }
 
             @Override
@@ -326,9 +402,13 @@ public class Sudoku {
                 return value;
             }
 
-            Set<Integer> getPossibleValues() {
+            long getPossibleValues() {
                 return possibleValues;
             }
+
+            int countPossibleValues() {
+                return Candidates.count(getPossibleValues());
+            }
         }
 
         static final class Update {
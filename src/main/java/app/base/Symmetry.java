@@ -0,0 +1,31 @@
+package app.base;
+
+enum Symmetry {
+    NONE {
+        @Override
+        int mirror(Geometry geometry, int index) {
+            return index;
+        }
+    },
+    ROTATIONAL {
+        @Override
+        int mirror(Geometry geometry, int index) {
+            return geometry.getCells() - 1 - index;
+        }
+    },
+    HORIZONTAL {
+        @Override
+        int mirror(Geometry geometry, int index) {
+            return geometry.index(geometry.row(index), geometry.getColumns() - 1 - geometry.column(index));
+        }
+    },
+    DIAGONAL {
+        @Override
+        int mirror(Geometry geometry, int index) {
+            return geometry.index(geometry.column(index), geometry.row(index));
+        }
+    };
+
+    abstract int mirror(Geometry geometry, int index);
+
+}
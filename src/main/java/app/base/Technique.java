@@ -0,0 +1,346 @@
+package app.base;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+enum Technique {
+    NAKED_SINGLES {
+        @Override
+        int apply(SearchBoard board) {
+            var assigned = 0;
+            for (int index = 0; index < board.getGeometry().getCells(); index++) {
+                if (board.getValue(index) != 0) {
+                    continue;
+                }
+                final var candidates = board.getCandidates(index);
+                if (candidates == Candidates.NONE) {
+                    return -1;
+                }
+                if (Candidates.isSingle(candidates)) {
+                    if (!board.assign(index, Candidates.lowest(candidates))) {
+                        return -1;
+                    }
+                    assigned++;
+                }
+            }
+            return assigned;
+        }
+    },
+    HIDDEN_SINGLES {
+        @Override
+        int apply(SearchBoard board) {
+            final var all = Candidates.all(board.getGeometry().getDigits());
+            var assigned = 0;
+            for (final var group : board.getGeometry().getGroups()) {
+                final var unit = group.getIndices();
+                var placed = Candidates.NONE;
+                var once = Candidates.NONE;
+                var twice = Candidates.NONE;
+                for (final var index : unit) {
+                    final var value = board.getValue(index);
+                    if (value != 0) {
+                        placed |= Candidates.of(value);
+                    } else {
+                        final var candidates = board.getCandidates(index);
+                        twice |= once & candidates;
+                        once |= candidates;
+                    }
+                }
+                if ((placed | once) != all) {
+                    return -1;
+                }
+                for (var singles = once & ~twice & ~placed; singles != Candidates.NONE; singles = Candidates.withoutLowest(singles)) {
+                    final var value = Candidates.lowest(singles);
+                    for (final var index : unit) {
+                        if (board.getValue(index) == 0 && Candidates.contains(board.getCandidates(index), value)) {
+                            if (!board.assign(index, value)) {
+                                return -1;
+                            }
+                            assigned++;
+                            break;
+                        }
+                    }
+                }
+            }
+            return assigned;
+        }
+    },
+    LOCKED_CANDIDATES {
+        @Override
+        int apply(SearchBoard board) {
+            var eliminated = 0;
+            for (final var intersection : board.getGeometry().getIntersections()) {
+                final var cells = candidatesOf(board, intersection.getCells());
+                final var squareRest = candidatesOf(board, intersection.getSquareRest());
+                final var lineRest = candidatesOf(board, intersection.getLineRest());
+                // pointing: digits of the square confined to the intersection leave the rest of the line
+                final var pointing = eliminate(board, intersection.getLineRest(), cells & ~squareRest);
+                if (pointing < 0) {
+                    return -1;
+                }
+                // claiming: digits of the line confined to the intersection leave the rest of the square
+                final var claiming = eliminate(board, intersection.getSquareRest(), cells & ~lineRest);
+                if (claiming < 0) {
+                    return -1;
+                }
+                eliminated += pointing + claiming;
+            }
+            return eliminated;
+        }
+    },
+    NAKED_PAIRS {
+        @Override
+        int apply(SearchBoard board) {
+            return nakedSubsets(board, 2);
+        }
+    },
+    NAKED_TRIPLES {
+        @Override
+        int apply(SearchBoard board) {
+            return nakedSubsets(board, 3);
+        }
+    },
+    HIDDEN_PAIRS {
+        @Override
+        int apply(SearchBoard board) {
+            return hiddenSubsets(board, 2);
+        }
+    },
+    HIDDEN_TRIPLES {
+        @Override
+        int apply(SearchBoard board) {
+            return hiddenSubsets(board, 3);
+        }
+    },
+    X_WING {
+        @Override
+        int apply(SearchBoard board) {
+            return fish(board, 2);
+        }
+    },
+    SWORDFISH {
+        @Override
+        int apply(SearchBoard board) {
+            return fish(board, 3);
+        }
+    };
+
+    static final Set<Technique> SINGLES = Collections.unmodifiableSet(EnumSet.of(NAKED_SINGLES, HIDDEN_SINGLES));
+    static final Set<Technique> ALL = Collections.unmodifiableSet(EnumSet.allOf(Technique.class));
+    static final Set<Technique> DEFAULT = SINGLES;
+
+    /**
+     * Returns the number of placements and eliminations made, or -1 when the board turned out to be contradicted.
+     */
+    abstract int apply(SearchBoard board);
+
+    private static int nakedSubsets(SearchBoard board, int size) {
+        var eliminated = 0;
+        for (final var unit : board.getGeometry().getUnits()) {
+            final var found = nakedSubsets(board, unit, size, 0, 0L, Candidates.NONE, 0);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int nakedSubsets(SearchBoard board, int[] unit, int size, int start, long positions, long union, int chosen) {
+        if (chosen == size) {
+            return Candidates.count(union) == size ? eliminateOutside(board, unit, positions, union) : 0;
+        }
+        var eliminated = 0;
+        for (int position = start; position < unit.length; position++) {
+            final var index = unit[position];
+            if (board.getValue(index) != 0) {
+                continue;
+            }
+            final var candidates = board.getCandidates(index);
+            final var count = Candidates.count(candidates);
+            final var merged = union | candidates;
+            if (count < 2 || count > size || Candidates.count(merged) > size) {
+                continue;
+            }
+            final var found = nakedSubsets(board, unit, size, position + 1, positions | (1L << position), merged, chosen + 1);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int hiddenSubsets(SearchBoard board, int size) {
+        final var all = Candidates.all(board.getGeometry().getDigits());
+        var eliminated = 0;
+        for (final var unit : board.getGeometry().getUnits()) {
+            var placed = Candidates.NONE;
+            for (final var index : unit) {
+                if (board.getValue(index) != 0) {
+                    placed |= Candidates.of(board.getValue(index));
+                }
+            }
+            final var found = hiddenSubsets(board, unit, size, all & ~placed, Candidates.NONE, 0L, 0);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int hiddenSubsets(SearchBoard board, int[] unit, int size, long available, long digits, long positions, int chosen) {
+        if (chosen == size) {
+            return Long.bitCount(positions) == size ? eliminateInside(board, unit, positions, digits) : 0;
+        }
+        var eliminated = 0;
+        for (var it = available; it != Candidates.NONE; it = Candidates.withoutLowest(it)) {
+            final var value = Candidates.lowest(it);
+            final var valuePositions = positionsOf(board, unit, value);
+            final var count = Long.bitCount(valuePositions);
+            final var merged = positions | valuePositions;
+            if (count < 2 || count > size || Long.bitCount(merged) > size) {
+                continue;
+            }
+            final var found = hiddenSubsets(board, unit, size, Candidates.withoutLowest(it), digits | Candidates.of(value), merged, chosen + 1);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int fish(SearchBoard board, int size) {
+        final var geometry = board.getGeometry();
+        var eliminated = 0;
+        for (int value = 1; value <= geometry.getDigits(); value++) {
+            final var rows = fish(board, geometry.getRowUnits(), geometry.getColumnUnits(), value, size, 0, 0L, 0L, 0);
+            if (rows < 0) {
+                return -1;
+            }
+            final var columns = fish(board, geometry.getColumnUnits(), geometry.getRowUnits(), value, size, 0, 0L, 0L, 0);
+            if (columns < 0) {
+                return -1;
+            }
+            eliminated += rows + columns;
+        }
+        return eliminated;
+    }
+
+    private static int fish(SearchBoard board, int[][] lines, int[][] crosses, int value, int size, int start, long base, long cover, int chosen) {
+        if (chosen == size) {
+            return Long.bitCount(cover) == size ? eliminateFromCover(board, crosses, value, base, cover) : 0;
+        }
+        var eliminated = 0;
+        for (int line = start; line < lines.length; line++) {
+            final var positions = positionsOf(board, lines[line], value);
+            final var count = Long.bitCount(positions);
+            final var merged = cover | positions;
+            if (count < 2 || count > size || Long.bitCount(merged) > size) {
+                continue;
+            }
+            final var found = fish(board, lines, crosses, value, size, line + 1, base | (1L << line), merged, chosen + 1);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int eliminateFromCover(SearchBoard board, int[][] crosses, int value, long base, long cover) {
+        var eliminated = 0;
+        for (var it = cover; it != 0; it &= it - 1) {
+            final var cross = crosses[Long.numberOfTrailingZeros(it)];
+            for (int line = 0; line < cross.length; line++) {
+                if ((base & (1L << line)) != 0) {
+                    continue;
+                }
+                final var found = eliminate(board, cross[line], Candidates.of(value));
+                if (found < 0) {
+                    return -1;
+                }
+                eliminated += found;
+            }
+        }
+        return eliminated;
+    }
+
+    private static int eliminateOutside(SearchBoard board, int[] unit, long positions, long candidates) {
+        var eliminated = 0;
+        for (int position = 0; position < unit.length; position++) {
+            if ((positions & (1L << position)) != 0) {
+                continue;
+            }
+            final var found = eliminate(board, unit[position], candidates);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int eliminateInside(SearchBoard board, int[] unit, long positions, long candidates) {
+        var eliminated = 0;
+        for (var it = positions; it != 0; it &= it - 1) {
+            final var found = eliminate(board, unit[Long.numberOfTrailingZeros(it)], ~candidates);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int eliminate(SearchBoard board, int[] cells, long candidates) {
+        if (candidates == Candidates.NONE) {
+            return 0;
+        }
+        var eliminated = 0;
+        for (final var index : cells) {
+            final var found = eliminate(board, index, candidates);
+            if (found < 0) {
+                return -1;
+            }
+            eliminated += found;
+        }
+        return eliminated;
+    }
+
+    private static int eliminate(SearchBoard board, int index, long candidates) {
+        if (board.getValue(index) != 0) {
+            return 0;
+        }
+        final var removed = Candidates.count(board.getCandidates(index) & candidates);
+        if (removed == 0) {
+            return 0;
+        }
+        return board.eliminate(index, candidates) ? removed : -1;
+    }
+
+    private static long candidatesOf(SearchBoard board, int[] cells) {
+        var candidates = Candidates.NONE;
+        for (final var index : cells) {
+            if (board.getValue(index) == 0) {
+                candidates |= board.getCandidates(index);
+            }
+        }
+        return candidates;
+    }
+
+    private static long positionsOf(SearchBoard board, int[] unit, int value) {
+        var positions = 0L;
+        for (int position = 0; position < unit.length; position++) {
+            final var index = unit[position];
+            if (board.getValue(index) == 0 && Candidates.contains(board.getCandidates(index), value)) {
+                positions |= 1L << position;
+            }
+        }
+        return positions;
+    }
+
+}
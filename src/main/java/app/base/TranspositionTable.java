@@ -0,0 +1,83 @@
+package app.base;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Zobrist hashes of partial boards whose search found no solution, shared by concurrent searches.
+ * A dead set of values stays dead for any puzzle it is reached from, as long as the candidates were derived from
+ * the values, so one table can serve every search of a solver or counter. Each stripe is a direct-mapped array
+ * behind its own lock and newer states overwrite older ones, which keeps the table bounded.
+ */
+final class TranspositionTable {
+    static final int DEFAULT_CAPACITY = 1 << 18;
+    static final TranspositionTable NONE = new TranspositionTable();
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int slotMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    TranspositionTable() {
+        this.stripes = new Stripe[0];
+        this.slotMask = 0;
+    }
+
+    TranspositionTable(int capacity) {
+        if (capacity < STRIPES) {
+            throw new IllegalArgumentException("Transposition table capacity has to be at least %d: %d".formatted(STRIPES, capacity));
+        }
+        final var slots = Integer.highestOneBit(capacity / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(slots);
+        }
+        this.slotMask = slots - 1;
+    }
+
+    // a 64-bit key is trusted without comparing the boards, a false hit needs a collision among the stored states
+    boolean isDead(long hash) {
+        if (stripes.length == 0 || hash == 0) {
+            return false;
+        }
+        final var dead = stripes[(int) hash & (STRIPES - 1)].contains((int) (hash >>> 32) & slotMask, hash);
+        if (dead) {
+            hits.increment();
+        }
+        return dead;
+    }
+
+    void addDead(long hash) {
+        if (stripes.length == 0 || hash == 0) {
+            return;
+        }
+        stripes[(int) hash & (STRIPES - 1)].put((int) (hash >>> 32) & slotMask, hash);
+        stores.increment();
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getStores() {
+        return stores.sum();
+    }
+
+    private static final class Stripe {
+        // zero marks an empty slot, the empty board hashes to zero but is never dead
+        private final long[] hashes;
+
+        private Stripe(int slots) {
+            this.hashes = new long[slots];
+        }
+
+        synchronized boolean contains(int slot, long hash) {
+            return hashes[slot] == hash;
+        }
+
+        synchronized void put(int slot, long hash) {
+            hashes[slot] = hash;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import java.util.SplittableRandom;
+
+// equivalent puzzles for exercising the canonical form and the solution cache
+final class Variants {
+
+    private Variants() {
+    }
+
+    /**
+     * Relabels digits, permutes bands, stacks, rows within bands and columns within stacks, and transposes
+     * square-box boards half of the time.
+     */
+    static Board random(Board board, SplittableRandom random) {
+        final var geometry = board.getGeometry();
+        final var size = geometry.getRows();
+        final var transpose = geometry.getSquareHeight() == geometry.getSquareWidth() && random.nextBoolean();
+        return transform(board, Permutations.shuffled(size, random), lineOrder(size, geometry.getSquareHeight(), random),
+                lineOrder(size, geometry.getSquareWidth(), random), transpose);
+    }
+
+    /**
+     * Returns the board whose row r and column c hold the value of row rows[r] and column columns[c], relabelled
+     * from d to labels[d - 1] + 1, and transposed afterwards if asked to.
+     */
+    static Board transform(Board board, int[] labels, int[] rows, int[] columns, boolean transpose) {
+        final var geometry = board.getGeometry();
+        final var size = geometry.getRows();
+        final var values = new int[geometry.getCells()];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                final var value = board.getValue(geometry.index(rows[row], columns[column]));
+                final var target = transpose ? geometry.index(column, row) : geometry.index(row, column);
+                values[target] = value == 0 ? 0 : labels[value - 1] + 1;
+            }
+        }
+        return BoardParser.fromValues(geometry, values);
+    }
+
+    private static int[] lineOrder(int size, int block, SplittableRandom random) {
+        final var blocks = Permutations.shuffled(size / block, random);
+        final var order = new int[size];
+        for (int slot = 0; slot < blocks.length; slot++) {
+            final var lines = Permutations.shuffled(block, random);
+            for (int i = 0; i < block; i++) {
+                order[slot * block + i] = blocks[slot] * block + lines[i];
+            }
+        }
+        return order;
+    }
+
+}
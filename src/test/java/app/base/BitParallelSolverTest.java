@@ -0,0 +1,23 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import org.junit.jupiter.api.Test;
+
+class BitParallelSolverTest {
+
+    @Test
+    void solvesSamples() {
+        for (final var puzzle : Puzzles.samples()) {
+            Solutions.assertSolves(new BitParallelSolver().solve(puzzle), puzzle);
+        }
+    }
+
+    @Test
+    void fillsEmptyBoardsUpTo36x36() {
+        for (final var size : new int[]{4, 6, 12, 16, 25, 36}) {
+            final var board = new Board(size, size);
+            Solutions.assertSolves(new BitParallelSolver().solve(board), board);
+        }
+    }
+
+}
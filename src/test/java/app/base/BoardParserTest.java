@@ -0,0 +1,80 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import app.base.Sudoku.Board.Update;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardParserTest {
+    private static final Geometry GEOMETRY = Geometry.of(9, 9);
+
+    @Test
+    void validGivensAreNotContradicted() {
+        final var board = BoardParser.parse(Puzzles.HARD);
+        assertFalse(board.isContradicted());
+        assertEquals(8, board.getValue(0));
+        // the first cell of the second row sees 8 in its column, 3 and 6 in its row and 7 in its square
+        assertEquals(Candidates.of(1) | Candidates.of(2) | Candidates.of(4) | Candidates.of(5) | Candidates.of(9),
+                board.getCandidates(9));
+    }
+
+    @Test
+    void duplicateGivensAreContradicted() {
+        assertTrue(fromCells(new int[]{0, 5}, new int[]{5, 5}).isContradicted());
+        assertTrue(fromCells(new int[]{0, 5}, new int[]{GEOMETRY.index(8, 0), 5}).isContradicted());
+        assertTrue(fromCells(new int[]{0, 5}, new int[]{GEOMETRY.index(2, 2), 5}).isContradicted());
+    }
+
+    @Test
+    void cellWithoutCandidatesIsContradicted() {
+        // the top left cell sees 1-8 in its row and 9 in its column
+        final var cells = new int[9][];
+        for (int column = 1; column < 9; column++) {
+            cells[column - 1] = new int[]{column, column};
+        }
+        cells[8] = new int[]{GEOMETRY.index(3, 0), 9};
+        assertTrue(fromCells(cells).isContradicted());
+    }
+
+    @Test
+    void digitWithoutPlaceInUnitIsContradicted() {
+        // both empty cells of the first row can hold 8, but neither can hold 9
+        final var cells = new int[9][];
+        for (int column = 0; column < 7; column++) {
+            cells[column] = new int[]{column, column + 1};
+        }
+        cells[7] = new int[]{GEOMETRY.index(3, 7), 9};
+        cells[8] = new int[]{GEOMETRY.index(6, 8), 9};
+        final var board = fromCells(cells);
+        assertTrue(board.getCandidates(7) != Candidates.NONE && board.getCandidates(8) != Candidates.NONE);
+        assertTrue(board.isContradicted());
+    }
+
+    @Test
+    void fillingTheOnlyPlaceOfAnotherDigitIsContradicted() {
+        // the last cell of the first row is the only place left for 9 in that row
+        final var board = fromCells(
+                new int[]{GEOMETRY.index(1, 0), 9},
+                new int[]{GEOMETRY.index(2, 3), 9},
+                new int[]{GEOMETRY.index(4, 6), 9},
+                new int[]{GEOMETRY.index(7, 7), 9});
+        assertFalse(board.isContradicted());
+        assertTrue(board.apply(new Update(board.getField(0, 8), 1)).isContradicted());
+        assertFalse(board.toSearchBoard().assign(8, 1));
+        assertFalse(board.apply(new Update(board.getField(0, 8), 9)).isContradicted());
+        assertTrue(board.toSearchBoard().assign(8, 9));
+    }
+
+    // pairs of cell index and value
+    private static Board fromCells(int[]... cells) {
+        final var values = new int[GEOMETRY.getCells()];
+        for (final var cell : cells) {
+            values[cell[0]] = cell[1];
+        }
+        return BoardParser.fromValues(GEOMETRY, values);
+    }
+
+}
@@ -0,0 +1,72 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CachingSolverTest {
+
+    @Test
+    void relabelledTransposedAndBandSwappedPuzzleHitsTheCache() {
+        final var puzzle = BoardParser.parse(Puzzles.HARD);
+        final var cache = new CachingSolver(new BacktrackingSolver(false));
+        Solutions.assertSolves(cache.solve(puzzle), puzzle);
+        final var variant = Variants.transform(puzzle,
+                new int[]{4, 7, 0, 2, 8, 1, 6, 3, 5},
+                new int[]{6, 7, 8, 3, 4, 5, 0, 1, 2},
+                new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8},
+                true);
+        final var solution = cache.solve(variant);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getExactHits());
+        Solutions.assertSolves(solution, variant);
+    }
+
+    @Test
+    void repeatedGivensAreAnsweredWithoutCanonicalForm() {
+        final var puzzle = BoardParser.parse(Puzzles.SAMPLES.get(0));
+        final var cache = new CachingSolver(new BacktrackingSolver(false));
+        cache.solve(puzzle);
+        Solutions.assertSolves(cache.solve(BoardParser.parse(Puzzles.SAMPLES.get(0))), puzzle);
+        assertEquals(1, cache.getExactHits());
+    }
+
+    @Test
+    void variantsMapBackToValidSolutions() {
+        final var random = new SplittableRandom(4);
+        final var cache = new CachingSolver(new BacktrackingSolver(false), 2);
+        final var puzzles = Puzzles.samples().subList(0, 4);
+        for (int i = 0; i < 100; i++) {
+            final var variant = Variants.random(puzzles.get(random.nextInt(puzzles.size())), random);
+            Solutions.assertSolves(cache.solve(variant), variant);
+        }
+        assertEquals(100, cache.getHits() + cache.getMisses());
+        assertEquals(2, cache.exactSize());
+        assertEquals(2, cache.canonicalSize());
+    }
+
+    @Test
+    void evictionsAreCountedPerMap() {
+        final var cache = new CachingSolver(new BacktrackingSolver(false), 3);
+        Puzzles.samples().forEach(cache::solve);
+        assertEquals(2, cache.getExactEvictions());
+        assertEquals(2, cache.getCanonicalEvictions());
+        assertEquals(3, cache.exactSize());
+        assertEquals(3, cache.canonicalSize());
+    }
+
+    @Test
+    void unsolvablePuzzlesAreCachedAndReturnedUnchanged() {
+        final var puzzle = BoardParser.parse("11" + "0".repeat(79));
+        final var cache = new CachingSolver(new BacktrackingSolver(false));
+        assertSame(puzzle, cache.solve(puzzle));
+        assertSame(puzzle, cache.solve(puzzle));
+        assertEquals(1, cache.getHits());
+    }
+
+}
@@ -0,0 +1,62 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CanonicalFormTest {
+
+    @Test
+    void equivalentPuzzlesShareOneForm() {
+        final var random = new SplittableRandom(1);
+        for (final var puzzle : puzzles()) {
+            final var form = CanonicalForm.of(puzzle);
+            for (int i = 0; i < 10; i++) {
+                assertEquals(form, CanonicalForm.of(Variants.random(puzzle, random)));
+            }
+        }
+    }
+
+    @Test
+    void distinctPuzzlesHaveDistinctForms() {
+        final var forms = new HashSet<CanonicalForm>();
+        final var puzzles = puzzles();
+        puzzles.forEach(it -> forms.add(CanonicalForm.of(it)));
+        assertEquals(puzzles.size(), forms.size());
+        assertNotEquals(CanonicalForm.of(BoardParser.parse(Puzzles.HARD)), CanonicalForm.of(new Board()));
+    }
+
+    @Test
+    void solutionsMapBetweenVariants() {
+        final var random = new SplittableRandom(2);
+        for (final var puzzle : puzzles()) {
+            final var solution = new BacktrackingSolver(false).solve(puzzle);
+            final var canonical = CanonicalForm.of(puzzle).toCanonical(solution);
+            for (int i = 0; i < 5; i++) {
+                final var variant = Variants.random(puzzle, random);
+                Solutions.assertSolves(CanonicalForm.of(variant).toOriginal(canonical), variant);
+            }
+        }
+    }
+
+    private static List<Board> puzzles() {
+        final var puzzles = new ArrayList<Board>();
+        for (final var puzzle : Puzzles.SAMPLES.subList(0, 4)) {
+            puzzles.add(BoardParser.parse(puzzle));
+        }
+        final var random = new SplittableRandom(3);
+        for (final var geometry : new Geometry[]{Geometry.of(4, 4), Geometry.of(6, 6), Geometry.of(8, 2, 4)}) {
+            puzzles.add(new Generator(geometry, Symmetry.NONE, 0).generate(random));
+        }
+        puzzles.add(new Generator(Geometry.of(9, 9), Symmetry.ROTATIONAL, 0).generate(random));
+        return puzzles;
+    }
+
+}
@@ -0,0 +1,21 @@
+package app.base;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MetricsTest {
+
+    @Test
+    void reusedStatisticsAreRecordedOncePerSolve() {
+        final var board = BoardParser.parse(Puzzles.HARD);
+        final var statistics = new SearchStatistics();
+        final var nodes = Metrics.GLOBAL.counter("nodes").sum();
+        Sudoku.solve(board, new BacktrackingSolver(false), statistics);
+        final var first = statistics.getNodes();
+        Sudoku.solve(board, new BacktrackingSolver(false), statistics);
+        assertEquals(2 * first, statistics.getNodes());
+        assertEquals(2 * first, Metrics.GLOBAL.counter("nodes").sum() - nodes);
+    }
+
+}
@@ -0,0 +1,30 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class Solutions {
+
+    private Solutions() {
+    }
+
+    static void assertSolves(Board solution, Board puzzle) {
+        final var geometry = puzzle.getGeometry();
+        assertTrue(solution.isSolved());
+        for (int index = 0; index < geometry.getCells(); index++) {
+            if (puzzle.getValue(index) != 0) {
+                assertEquals(puzzle.getValue(index), solution.getValue(index));
+            }
+        }
+        for (final var unit : geometry.getUnits()) {
+            var digits = Candidates.NONE;
+            for (final var index : unit) {
+                digits |= Candidates.of(solution.getValue(index));
+            }
+            assertEquals(Candidates.all(geometry.getDigits()), digits);
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package app.base;
+
+import app.base.Sudoku.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranspositionTableTest {
+    private static final long LIMIT = 50;
+
+    @Test
+    void sharedTableKeepsSolutionCounts() {
+        final var pool = new ForkJoinPool(4);
+        final var plain = counter(pool, TranspositionTable.NONE);
+        final var table = new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY);
+        final var shared = counter(pool, table);
+        final var random = new SplittableRandom(5);
+        for (final var geometry : new Geometry[]{Geometry.of(9, 9), Geometry.of(6, 6)}) {
+            // removing givens one by one like the generator does revisits the states earlier counts proved dead
+            final var values = new Generator(geometry, Symmetry.NONE, 0).generateSolution(random);
+            for (int removed = 0; removed < geometry.getCells(); removed++) {
+                values[random.nextInt(values.length)] = 0;
+                final var board = BoardParser.fromValues(geometry, values.clone());
+                assertEquals(plain.count(board, 2), shared.count(board, 2));
+                assertEquals(plain.count(board, LIMIT), shared.count(board, LIMIT));
+            }
+        }
+        for (final var puzzle : Puzzles.samples()) {
+            assertEquals(plain.count(puzzle, LIMIT), shared.count(puzzle, LIMIT));
+        }
+        assertTrue(table.getStores() > 0);
+        pool.shutdown();
+    }
+
+    @Test
+    void hashFollowsAppliedAndUndoneValues() {
+        final var board = BoardParser.parse(Puzzles.SAMPLES.get(1));
+        final var geometry = board.getGeometry();
+        final var applied = board.nextUpdates().findFirst().map(board::apply).orElseThrow();
+        assertEquals(geometry.hash(valuesOf(applied)), applied.getHash());
+        final var searchBoard = board.toSearchBoard();
+        final var mark = searchBoard.mark();
+        new Propagator().propagate(searchBoard);
+        searchBoard.undo(mark);
+        assertEquals(board.getHash(), searchBoard.getHash());
+        assertEquals(applied.getHash(), applied.toSearchBoard().getHash());
+    }
+
+    private static SolutionCounter counter(ForkJoinPool pool, TranspositionTable table) {
+        return new SolutionCounter(pool, Branching.DEFAULT, ForkJoinSolver.DEFAULT_FORK_DEPTH,
+                ForkJoinSolver.DEFAULT_FORK_EMPTY, table);
+    }
+
+    private static int[] valuesOf(Board board) {
+        final var values = new int[board.getGeometry().getCells()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = board.getValue(index);
+        }
+        return values;
+    }
+
+}